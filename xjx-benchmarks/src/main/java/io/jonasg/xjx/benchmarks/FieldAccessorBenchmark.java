@@ -0,0 +1,85 @@
+package io.jonasg.xjx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jonasg.xjx.serdes.TypeMappers;
+import io.jonasg.xjx.serdes.deserialize.accessor.FieldAccessor;
+import io.jonasg.xjx.serdes.deserialize.accessor.PrimitiveFieldAccessor;
+import io.jonasg.xjx.serdes.deserialize.accessor.ReflectiveFieldAccessor;
+import io.jonasg.xjx.serdes.deserialize.accessor.SetterFieldAccessor;
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+import io.jonasg.xjx.serdes.reflector.FieldReflector;
+import io.jonasg.xjx.serdes.reflector.TypeReflector;
+
+/**
+ * Compares writing a text value to an {@code int} field through {@link PrimitiveFieldAccessor}, which parses it into
+ * a primitive and invokes an exactly typed setter handle, against the accessors that map the text to a boxed
+ * {@link Integer} first, {@code reflective} through {@link java.lang.reflect.Field#set} and {@code setter} through
+ * the setter method of the field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    Counter counter = new Counter();
+
+    Object value = "1234567";
+
+    FieldAccessor primitive;
+
+    FieldAccessor reflective;
+
+    FieldAccessor setter;
+
+    @Setup
+    public void setup() {
+        FieldReflector field = TypeReflector.reflect(Counter.class).field("count").orElseThrow();
+        Function<Object, Object> mapper = TypeMappers.forType(int.class, new XjxConfiguration());
+        primitive = PrimitiveFieldAccessor.of(field, mapper);
+        reflective = new ReflectiveFieldAccessor(field, mapper);
+        setter = new SetterFieldAccessor(field, mapper);
+    }
+
+    @Benchmark
+    public int primitive() {
+        primitive.set(counter, value);
+        return counter.count;
+    }
+
+    @Benchmark
+    public int reflective() {
+        reflective.set(counter, value);
+        return counter.count;
+    }
+
+    @Benchmark
+    public int setter() {
+        setter.set(counter, value);
+        return counter.count;
+    }
+
+    public static class Counter {
+
+        int count;
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.jonasg.xjx.benchmarks;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+/**
+ * Compares reading every record of a large document one at a time through
+ * {@link XjxSerdes#readStream(java.io.Reader, String, Class)} against reading them in parallel through
+ * {@link XjxSerdes#readParallel(ByteBuffer, String, Class)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelReadBenchmark {
+
+    private static final int RECORDS = 200_000;
+
+    private final XjxSerdes xjx = new XjxSerdes();
+
+    private String document;
+
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() {
+        var builder = new StringBuilder("<Feed><Items>");
+        for (int i = 0; i < RECORDS; i++) {
+            builder.append("<Item id=\"").append(i).append("\"><Name>item ").append(i)
+                    .append("</Name><Price>").append(i % 1000).append(".95</Price><Quantity>").append(i % 17)
+                    .append("</Quantity></Item>");
+        }
+        document = builder.append("</Items></Feed>").toString();
+        bytes = ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<Item> sequential() {
+        return xjx.readStream(new StringReader(document), "/Feed/Items/Item", Item.class).toList();
+    }
+
+    @Benchmark
+    public List<Item> parallel() {
+        return xjx.readParallel(bytes, "/Feed/Items/Item", Item.class);
+    }
+
+    public record Item(@Tag(path = "/Item", attribute = "id") String id,
+                       @Tag(path = "/Item/Name") String name,
+                       @Tag(path = "/Item/Price") double price,
+                       @Tag(path = "/Item/Quantity") int quantity) {
+    }
+}
@@ -0,0 +1,104 @@
+package io.jonasg.xjx.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jonasg.xjx.serdes.TextParsers;
+
+/**
+ * Compares {@link TextParsers} against the JDK parsing previously used by the type mappers,
+ * {@code jdk*} benchmarks parse the way the mappers used to, {@code xjx*} benchmarks through {@link TextParsers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextParsersBenchmark {
+
+    Object integer = "1234567";
+
+    Object decimal = "48213.375";
+
+    Object amount = "1299.95";
+
+    Object date = "2023-10-18";
+
+    Object dateTime = "2023-10-18T10:15:30.250";
+
+    Object zonedDateTime = "2023-10-18T10:15:30+02:00";
+
+    @Benchmark
+    public int jdkInt() {
+        return Integer.parseInt(String.valueOf(integer));
+    }
+
+    @Benchmark
+    public int xjxInt() {
+        return TextParsers.parseInt((CharSequence) integer);
+    }
+
+    @Benchmark
+    public double jdkDouble() {
+        return Double.valueOf(String.valueOf(decimal));
+    }
+
+    @Benchmark
+    public double xjxDouble() {
+        return TextParsers.parseDouble((CharSequence) decimal);
+    }
+
+    @Benchmark
+    public BigDecimal jdkBigDecimal() {
+        return new BigDecimal(String.valueOf(amount));
+    }
+
+    @Benchmark
+    public BigDecimal xjxBigDecimal() {
+        return TextParsers.parseBigDecimal((CharSequence) amount);
+    }
+
+    @Benchmark
+    public LocalDate jdkLocalDate() {
+        return LocalDate.parse(String.valueOf(date));
+    }
+
+    @Benchmark
+    public LocalDate xjxLocalDate() {
+        return TextParsers.parseLocalDate((CharSequence) date);
+    }
+
+    @Benchmark
+    public LocalDateTime jdkLocalDateTime() {
+        return LocalDateTime.parse(String.valueOf(dateTime));
+    }
+
+    @Benchmark
+    public LocalDateTime xjxLocalDateTime() {
+        return TextParsers.parseLocalDateTime((CharSequence) dateTime);
+    }
+
+    @Benchmark
+    public ZonedDateTime jdkZonedDateTime() {
+        return ZonedDateTime.parse(String.valueOf(zonedDateTime));
+    }
+
+    @Benchmark
+    public ZonedDateTime xjxZonedDateTime() {
+        return TextParsers.parseZonedDateTime((CharSequence) zonedDateTime);
+    }
+}
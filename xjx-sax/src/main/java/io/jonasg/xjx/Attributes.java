@@ -1,24 +1,32 @@
 package io.jonasg.xjx;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class Attributes {
-    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    private static final String[] NONE = new String[0];
+
+    private String[] names = NONE;
+
+    private String[] values = NONE;
+
+    private int size;
 
     public Attributes(String... values) {
         int length = values.length;
         for (int i = 0; i < length - 1; i += 2) {
             String attributeName = values[i];
             String attributeValue = values[i + 1];
-            attributes.put(attributeName, attributeValue);
+            add(attributeName, attributeValue);
         }
 
         if (length % 2 == 1) {
             String attributeName = values[length - 1];
-            attributes.put(attributeName, null);
+            add(attributeName, null);
         }
     }
 
@@ -27,26 +35,71 @@ public class Attributes {
     }
 
     public void add(String attributeName, String attributeValue) {
-        attributes.put(attributeName, attributeValue);
+        int index = indexOf(attributeName);
+        if (index != -1) {
+            values[index] = attributeValue;
+            return;
+        }
+        if (size == names.length) {
+            int capacity = Math.max(4, size * 2);
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = attributeName;
+        values[size] = attributeValue;
+        size++;
     }
 
     public boolean isPresent() {
-        return !attributes.isEmpty();
+        return size != 0;
+    }
+
+    /**
+     * @return the number of attributes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the attribute, in document order
+     * @return the name of the attribute at the given index
+     */
+    public String name(int index) {
+        Objects.checkIndex(index, size);
+        return names[index];
+    }
+
+    /**
+     * @param index the index of the attribute, in document order
+     * @return the value of the attribute at the given index
+     */
+    public String value(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
     }
 
     public Stream<Attribute> stream() {
-        return attributes.entrySet()
-                .stream()
-                .map(e -> new Attribute(e.getKey(), e.getValue()));
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Attribute(names[i], values[i]));
     }
 
     public boolean isEmpty() {
-        return attributes.isEmpty();
+        return size == 0;
     }
 
 
     public record Attribute(String name, String value) {}
 
+    private int indexOf(String attributeName) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(attributeName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -54,19 +107,31 @@ public class Attributes {
 
         Attributes that = (Attributes) o;
 
-        return attributes.equals(that.attributes);
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            int index = that.indexOf(names[i]);
+            if (index == -1 || !Objects.equals(values[i], that.values[index])) return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return attributes.hashCode();
+        int hashCode = 0;
+        for (int i = 0; i < size; i++) {
+            hashCode += names[i].hashCode() ^ Objects.hashCode(values[i]);
+        }
+        return hashCode;
     }
 
     @Override
     public String toString() {
+        var attributes = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < size; i++) {
+            attributes.add(names[i] + "=" + values[i]);
+        }
         return new StringJoiner(", ", Attributes.class.getSimpleName() + "[", "]")
                 .add("attributes=" + attributes)
                 .toString();
     }
 }
-
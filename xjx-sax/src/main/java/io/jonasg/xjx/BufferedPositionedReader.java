@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Optional;
 
+import io.jonasg.xjx.scanners.XmlParsingException;
+
 public class BufferedPositionedReader implements PositionedReader {
 
     private final BufferedReader reader;
@@ -144,6 +146,109 @@ public class BufferedPositionedReader implements PositionedReader {
         currentLinePos += (currentLine().length() - replacedLine.length());
     }
 
+    /**
+     * Peeks within the current line only, the end of the line is reported as {@code '\n'}.
+     */
+    @Override
+    public int peekChar(int offset) {
+        if (currentLine == null) {
+            return -1;
+        }
+        int index = currentLinePos + offset;
+        if (index < currentLine.length()) {
+            return currentLine.charAt(index);
+        }
+        return index == currentLine.length() ? '\n' : -1;
+    }
+
+    /**
+     * Matches within the current line only.
+     */
+    @Override
+    public boolean regionMatches(int offset, String prefix) {
+        if (currentLine == null) {
+            return false;
+        }
+        return currentLine.startsWith(prefix, currentLinePos + offset);
+    }
+
+    @Override
+    public CharSequence readSliceUntil(char until) {
+        var read = new StringBuilder();
+        while (currentLine != null && peekOneChar() != until) {
+            Character character = readOneChar();
+            if (character == null) {
+                break;
+            }
+            read.append(character);
+        }
+        return read.toString();
+    }
+
+    @Override
+    public CharSequence readSliceUntil(String until) {
+        return readUntil(until).orElse(null);
+    }
+
+    @Override
+    public QualifiedName readName() {
+        if (currentLine == null) {
+            return QualifiedName.of("");
+        }
+        int start = currentLinePos;
+        while (currentLinePos < currentLine.length() && !QualifiedName.endsName(currentLine.charAt(currentLinePos))) {
+            currentLinePos++;
+        }
+        return QualifiedName.of(currentLine.substring(start, currentLinePos));
+    }
+
+    @Override
+    public void skipElement() {
+        int depth = 1;
+        while (depth > 0) {
+            skipPast("<");
+            if (peekChar(0) == '/') {
+                depth--;
+                skipPast(">");
+            } else if (regionMatches(0, "!--")) {
+                skipPast("-->");
+            } else if (regionMatches(0, "![CDATA[")) {
+                skipPast("]]>");
+            } else if (peekChar(0) == '?') {
+                skipPast("?>");
+            } else if (peekChar(0) == '!') {
+                skipPast(">");
+            } else if (!skipStartTag()) {
+                depth++;
+            }
+        }
+    }
+
+    private boolean skipStartTag() {
+        char quote = 0;
+        char previous = 0;
+        Character character;
+        while ((character = readOneChar()) != null) {
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '"' || character == '\'') {
+                quote = character;
+            } else if (character == '>') {
+                return previous == '/';
+            }
+            previous = character;
+        }
+        throw new XmlParsingException("Document ended before element was closed");
+    }
+
+    private void skipPast(String value) {
+        if (readUntil(value).isEmpty()) {
+            throw new XmlParsingException("Document ended before element was closed");
+        }
+    }
+
     public static String removeLeadingWhitespace(String input) {
         int length = input.length();
         int startIndex = 0;
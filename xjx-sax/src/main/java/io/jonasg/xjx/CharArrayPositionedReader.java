@@ -0,0 +1,491 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+/**
+ * {@link PositionedReader} working over a fixed-size {@code char[]} window that is refilled from the underlying
+ * {@link Reader} as the position advances.
+ * <p>
+ * Unlike {@link BufferedPositionedReader} the input is not split into lines, reading is done in place on the window
+ * and only the values actually requested are copied out of it. Line endings ({@code \r\n} and lone {@code \r}) are
+ * normalized to {@code \n} while filling the window.
+ * The window only grows when a single lookahead, such as {@link #peekLine()} on a very long line, does not fit.
+ * <p>
+ * Names are resolved straight from the window through a {@link SymbolTable}, so a name that was read before
+ * does not allocate again. The table can be shared between readers, by default every reader has its own.
+ */
+public class CharArrayPositionedReader implements PositionedReader {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    private char[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    private boolean endOfInput;
+
+    private boolean skipLineFeed;
+
+    private int mark = -1;
+
+    /**
+     * The progress of the last search that did not complete: the value searched for, the position it was searched
+     * from and the offset from that position up to which no match starts. A search repeated from the same position
+     * after a {@link #reset()} carries on from there instead of searching the same characters again.
+     */
+    private Object searched;
+
+    private int searchStart;
+
+    private int searchedOffset;
+
+    private final CharSlice slice = new CharSlice();
+
+    private final SymbolTable symbolTable;
+
+    public CharArrayPositionedReader(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CharArrayPositionedReader(Reader reader, int bufferSize) {
+        this(reader, bufferSize, new SymbolTable());
+    }
+
+    public CharArrayPositionedReader(Reader reader, SymbolTable symbolTable) {
+        this(reader, DEFAULT_BUFFER_SIZE, symbolTable);
+    }
+
+    public CharArrayPositionedReader(Reader reader, int bufferSize, SymbolTable symbolTable) {
+        this(reader, new char[bufferSize], symbolTable);
+    }
+
+    /**
+     * @param buffer the initial window, allowing a buffer to be reused across readers that are not used concurrently.
+     *               Its content is overwritten, it is no longer used once the window has to grow.
+     */
+    public CharArrayPositionedReader(Reader reader, char[] buffer, SymbolTable symbolTable) {
+        if (buffer.length < 2) {
+            throw new IllegalArgumentException("Buffer size must be at least 2 but was " + buffer.length);
+        }
+        this.reader = reader;
+        this.buffer = buffer;
+        this.symbolTable = symbolTable;
+    }
+
+    @Override
+    public String currentLine() {
+        if (!ensure(1) || buffer[position] == '\n') {
+            return null;
+        }
+        return restOfLine();
+    }
+
+    @Override
+    public String peekLine() {
+        if (!ensure(1)) {
+            return null;
+        }
+        if (buffer[position] == '\n') {
+            position++;
+            if (!ensure(1)) {
+                return null;
+            }
+        }
+        return restOfLine();
+    }
+
+    @Override
+    public Character readOneChar() {
+        if (position == limit && !ensure(1)) {
+            return null;
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public char peekOneChar() {
+        if (position == limit && !ensure(1)) {
+            return '\n';
+        }
+        return buffer[position];
+    }
+
+    @Override
+    public String readChars(int i) {
+        ensure(i);
+        int length = Math.min(i, limit - position);
+        var read = new String(buffer, position, length);
+        position += length;
+        return read;
+    }
+
+    @Override
+    public boolean hasMoreToRead() {
+        return position < limit || ensure(1);
+    }
+
+    @Override
+    public Optional<String> readUntil(String until) {
+        if (!ensure(1)) {
+            return Optional.empty();
+        }
+        char first = until.charAt(0);
+        int untilLength = until.length();
+        StringBuilder read = null;
+        while (true) {
+            int index = indexOf(first, position, limit);
+            if (index == -1) {
+                read = append(read, position, limit);
+                position = limit;
+                if (!ensure(1)) {
+                    return Optional.empty();
+                }
+                continue;
+            }
+            read = append(read, position, index);
+            position = index;
+            if (!ensure(untilLength)) {
+                position = limit;
+                return Optional.empty();
+            }
+            if (matches(until, position)) {
+                position += untilLength;
+                return Optional.of(read == null ? "" : read.toString());
+            }
+            read = append(read, position, position + 1);
+            position++;
+        }
+    }
+
+    @Override
+    public Character getCurrentChar() {
+        if (position == 0) {
+            return null;
+        }
+        return buffer[position - 1];
+    }
+
+    @Override
+    public void ltrim() {
+        while ((position < limit || ensure(1)) && Character.isWhitespace(buffer[position])) {
+            position++;
+        }
+    }
+
+    @Override
+    public int peekChar(int offset) {
+        int index = position + offset;
+        if (index < limit) {
+            return buffer[index];
+        }
+        if (!ensure(offset + 1)) {
+            return -1;
+        }
+        return buffer[position + offset];
+    }
+
+    @Override
+    public boolean regionMatches(int offset, String prefix) {
+        if (!ensure(offset + prefix.length())) {
+            return false;
+        }
+        return matches(prefix, position + offset);
+    }
+
+    @Override
+    public CharSequence readSliceUntil(char until) {
+        int offset = find(until, startSearch(until), true);
+        searched = null;
+        int end = offset == -1 ? limit : position + offset;
+        slice.set(buffer, position, end);
+        position = end;
+        return slice;
+    }
+
+    @Override
+    public CharSequence readSliceUntil(String until) {
+        char first = until.charAt(0);
+        int offset = startSearch(until);
+        while (true) {
+            offset = find(first, offset, true);
+            searchedOffset = offset;
+            if (offset == -1 || !ensure(offset + until.length())) {
+                searched = null;
+                position = limit;
+                return null;
+            }
+            if (matches(until, position + offset)) {
+                searched = null;
+                slice.set(buffer, position, position + offset);
+                position += offset + until.length();
+                return slice;
+            }
+            offset++;
+        }
+    }
+
+    @Override
+    public QualifiedName readName() {
+        int index = position;
+        while (true) {
+            while (index < limit && !QualifiedName.endsName(buffer[index])) {
+                index++;
+            }
+            if (index < limit) {
+                break;
+            }
+            int offset = index - position;
+            boolean more = ensure(offset + 1);
+            index = position + offset;
+            if (!more) {
+                break;
+            }
+        }
+        var name = symbolTable.lookup(buffer, position, index);
+        position = index;
+        return name;
+    }
+
+    @Override
+    public void skipElement() {
+        int depth = 1;
+        while (depth > 0) {
+            skipPast('<');
+            if (peekChar(0) == '/') {
+                depth--;
+                skipPast('>');
+            } else if (regionMatches(0, "!--")) {
+                skipPast("-->");
+            } else if (regionMatches(0, "![CDATA[")) {
+                skipPast("]]>");
+            } else if (peekChar(0) == '?') {
+                skipPast("?>");
+            } else if (peekChar(0) == '!') {
+                skipPast('>');
+            } else if (!skipStartTag()) {
+                depth++;
+            }
+        }
+    }
+
+    /**
+     * Skips the remainder of a start tag, ignoring any {@code >} within quoted attribute values.
+     * @return whether the tag was self-closing
+     */
+    private boolean skipStartTag() {
+        char quote = 0;
+        char previous = 0;
+        while (true) {
+            if (position == limit && !ensure(1)) {
+                throw new XmlParsingException("Document ended before element was closed");
+            }
+            char character = buffer[position++];
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '"' || character == '\'') {
+                quote = character;
+            } else if (character == '>') {
+                return previous == '/';
+            }
+            previous = character;
+        }
+    }
+
+    private void skipPast(char character) {
+        int offset = find(character, 0);
+        if (offset == -1) {
+            position = limit;
+            throw new XmlParsingException("Document ended before element was closed");
+        }
+        position += offset + 1;
+    }
+
+    private void skipPast(String value) {
+        if (readSliceUntil(value) == null) {
+            throw new XmlParsingException("Document ended before element was closed");
+        }
+    }
+
+    private String restOfLine() {
+        int offset = find('\n', 0);
+        int end = offset == -1 ? limit : position + offset;
+        return new String(buffer, position, end - position);
+    }
+
+    /**
+     * Starts a search for the given value from the current position.
+     * @return the offset to search from, past the characters already searched when the same search was interrupted
+     * by running out of input before
+     */
+    private int startSearch(Object value) {
+        if (searchStart == position && value.equals(searched)) {
+            return searchedOffset;
+        }
+        searched = value;
+        searchStart = position;
+        searchedOffset = 0;
+        return 0;
+    }
+
+    private int find(char character, int fromOffset) {
+        return find(character, fromOffset, false);
+    }
+
+    /**
+     * Looks for a character ahead of the current position, growing the window so that everything from the current
+     * position up to the character is available in it.
+     * @param resumable whether to keep track of how far the search got, for the search started by
+     * {@link #startSearch(Object)}
+     * @return the distance from the current position to the character or -1 when the input ends before it
+     */
+    private int find(char character, int fromOffset, boolean resumable) {
+        int index = position + fromOffset;
+        while (true) {
+            while (index < limit) {
+                if (buffer[index] == character) {
+                    return index - position;
+                }
+                index++;
+            }
+            int offset = index - position;
+            if (resumable) {
+                searchedOffset = offset;
+            }
+            if (!ensure(offset + 1)) {
+                return -1;
+            }
+            index = position + offset;
+        }
+    }
+
+    private StringBuilder append(StringBuilder builder, int from, int to) {
+        if (from == to) {
+            return builder;
+        }
+        if (builder == null) {
+            builder = new StringBuilder(to - from);
+        }
+        return builder.append(buffer, from, to - from);
+    }
+
+    private int indexOf(char character, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(String value, int from) {
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer[from + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes sure at least {@code count} characters are available in the window starting at the current position.
+     * The window is compacted, keeping the last read character, or the one before the mark, around for
+     * {@link #getCurrentChar()}, and only grown when {@code count} does not fit into it.
+     * @return false when the end of the input is reached before {@code count} characters are available
+     */
+    private boolean ensure(int count) {
+        while (limit - position < count) {
+            if (endOfInput) {
+                return false;
+            }
+            if (position + count > buffer.length) {
+                compact(count);
+            }
+            fill();
+        }
+        return true;
+    }
+
+    private void compact(int count) {
+        int retained = mark >= 0 ? mark : position;
+        int start = retained > 0 ? retained - 1 : 0;
+        int offset = position - start;
+        int available = limit - start;
+        char[] target = buffer;
+        if (offset + count > buffer.length) {
+            target = new char[Math.max(buffer.length * 2, offset + count)];
+        }
+        System.arraycopy(buffer, start, target, 0, available);
+        buffer = target;
+        position = offset;
+        limit = available;
+        if (mark >= 0) {
+            mark -= start;
+        }
+        searchStart -= start;
+    }
+
+    private void fill() {
+        try {
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                endOfInput = true;
+                return;
+            }
+            limit = normalizeLineEndings(limit, limit + read);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int normalizeLineEndings(int from, int to) {
+        int write = from;
+        for (int read = from; read < to; read++) {
+            char character = buffer[read];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (character == '\n') {
+                    continue;
+                }
+            }
+            if (character == '\r') {
+                character = '\n';
+                skipLineFeed = true;
+            }
+            buffer[write++] = character;
+        }
+        return write;
+    }
+
+    /**
+     * Marks the current position, everything read from the mark on is kept in the window until the next mark so that
+     * the reader can be {@link #reset()} to it.
+     */
+    void mark() {
+        mark = position;
+    }
+
+    /**
+     * Moves back to the last marked position.
+     */
+    void reset() {
+        position = mark;
+    }
+
+    @Override
+    public String toString() {
+        int from = Math.max(0, position - 20);
+        int to = Math.min(limit, position + 20);
+        return new String(buffer, from, position - from) + "|" + new String(buffer, position, to - position);
+    }
+}
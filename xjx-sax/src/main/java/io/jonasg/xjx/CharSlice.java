@@ -0,0 +1,46 @@
+package io.jonasg.xjx;
+
+import java.util.Objects;
+
+/**
+ * A {@link CharSequence} view on a range of a reader's window.
+ * The view is reused by the reader and only valid until the reader is used again, call {@link #toString()}
+ * to keep its content around.
+ */
+final class CharSlice implements CharSequence {
+
+    private char[] buffer;
+
+    private int start;
+
+    private int length;
+
+    CharSlice set(char[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return buffer[start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new String(buffer, this.start + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, start, length);
+    }
+}
@@ -0,0 +1,354 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+/**
+ * The byte ranges of every element found at a given path in a UTF-8 encoded document, from the {@code <} of its
+ * start tag up to and including the {@code >} of its end tag, in document order.
+ * <p>
+ * The ranges are found by a raw scan of the bytes rather than by tokenizing the document: all markup delimiters are
+ * ASCII, so no byte of a multibyte character can be mistaken for one. Comments, CDATA sections, processing
+ * instructions, the document type declaration and quoted attribute values are skipped, a {@code <} or {@code >} inside
+ * them never ends up as a boundary. The document is expected to be well-formed, end tags are not matched against
+ * their start tag.
+ * <p>
+ * Every range holds a complete element, allowing the elements to be parsed independently of each other.
+ */
+public final class ElementBoundaries {
+
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+    private long[] starts = new long[64];
+
+    private long[] ends = new long[64];
+
+    private int size;
+
+    private ElementBoundaries() {
+    }
+
+    /**
+     * Scans the remaining bytes of the buffer, positions are relative to the current position of the buffer.
+     * The position of the buffer itself is left untouched.
+     * @param document the UTF-8 encoded document
+     * @param path the local names of the elements leading to, and including, the elements to find
+     */
+    public static ElementBoundaries scan(ByteBuffer document, List<String> path) {
+        var scanner = new BoundaryScanner(path);
+        if (document.hasArray()) {
+            scanner.scan(document.array(), document.arrayOffset() + document.position(), document.remaining());
+        } else {
+            var source = document.duplicate();
+            var bytes = new byte[Math.min(SCAN_BUFFER_SIZE, source.remaining())];
+            while (source.hasRemaining()) {
+                int length = Math.min(bytes.length, source.remaining());
+                source.get(bytes, 0, length);
+                scanner.scan(bytes, 0, length);
+            }
+        }
+        return scanner.finish();
+    }
+
+    /**
+     * Scans the stream up to its end, positions are relative to where the stream is at when called.
+     * @param document the UTF-8 encoded document, it is not closed
+     * @param path the local names of the elements leading to, and including, the elements to find
+     */
+    public static ElementBoundaries scan(InputStream document, List<String> path) throws IOException {
+        var scanner = new BoundaryScanner(path);
+        var bytes = new byte[SCAN_BUFFER_SIZE];
+        int read;
+        while ((read = document.read(bytes, 0, bytes.length)) != -1) {
+            scanner.scan(bytes, 0, read);
+        }
+        return scanner.finish();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the position of the {@code <} opening the start tag of the element
+     */
+    public long start(int index) {
+        return starts[index];
+    }
+
+    /**
+     * @return the position right after the {@code >} closing the end tag of the element
+     */
+    public long end(int index) {
+        return ends[index];
+    }
+
+    private void add(long start, long end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * A state machine fed one block of bytes at a time, it can stop anywhere and resume with the next block.
+     */
+    private static final class BoundaryScanner {
+
+        private static final int TEXT = 0;
+        private static final int TAG_OPEN = 1;
+        private static final int START_TAG_NAME = 2;
+        private static final int START_TAG = 3;
+        private static final int DOUBLE_QUOTED_VALUE = 4;
+        private static final int SINGLE_QUOTED_VALUE = 5;
+        private static final int END_TAG = 6;
+        private static final int MARKUP_DECLARATION = 7;
+        private static final int COMMENT_OPEN = 8;
+        private static final int COMMENT = 9;
+        private static final int CDATA = 10;
+        private static final int DOCUMENT_TYPE = 11;
+        private static final int PROCESSING_INSTRUCTION = 12;
+
+        private final ElementBoundaries boundaries = new ElementBoundaries();
+
+        private final byte[][] sections;
+
+        private final byte[] name;
+
+        private int nameLength;
+
+        private int state = TEXT;
+
+        /**
+         * Position of the first byte of the block being scanned.
+         */
+        private long offset;
+
+        private long tagStart;
+
+        private long elementStart;
+
+        private boolean selfClosing;
+
+        private int depth;
+
+        /**
+         * Number of sections matched by the currently open elements.
+         */
+        private int matched;
+
+        /**
+         * Number of consecutive delimiter characters seen, such as the dashes closing a comment.
+         */
+        private int delimiters;
+
+        private int brackets;
+
+        private byte quote;
+
+        BoundaryScanner(List<String> path) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path must contain at least one tag");
+            }
+            this.sections = new byte[path.size()][];
+            int longest = 0;
+            for (int i = 0; i < sections.length; i++) {
+                sections[i] = path.get(i).getBytes(StandardCharsets.UTF_8);
+                longest = Math.max(longest, sections[i].length);
+            }
+            this.name = new byte[longest];
+        }
+
+        void scan(byte[] bytes, int from, int length) {
+            int end = from + length;
+            for (int i = from; i < end; i++) {
+                byte b = bytes[i];
+                switch (state) {
+                    case TEXT -> {
+                        if (b == '<') {
+                            tagStart = offset + i - from;
+                            state = TAG_OPEN;
+                        }
+                    }
+                    case TAG_OPEN -> {
+                        if (b == '/') {
+                            state = END_TAG;
+                        } else if (b == '!') {
+                            state = MARKUP_DECLARATION;
+                        } else if (b == '?') {
+                            delimiters = 0;
+                            state = PROCESSING_INSTRUCTION;
+                        } else {
+                            nameLength = 0;
+                            appendToName(b);
+                            state = START_TAG_NAME;
+                        }
+                    }
+                    case START_TAG_NAME -> {
+                        if (b == '>') {
+                            openElement(false, offset + i - from + 1);
+                        } else if (b == '/') {
+                            selfClosing = true;
+                            state = START_TAG;
+                        } else if (isWhiteSpace(b)) {
+                            selfClosing = false;
+                            state = START_TAG;
+                        } else {
+                            appendToName(b);
+                        }
+                    }
+                    case START_TAG -> {
+                        if (b == '>') {
+                            openElement(selfClosing, offset + i - from + 1);
+                        } else if (b == '"') {
+                            state = DOUBLE_QUOTED_VALUE;
+                        } else if (b == '\'') {
+                            state = SINGLE_QUOTED_VALUE;
+                        } else if (!isWhiteSpace(b)) {
+                            selfClosing = b == '/';
+                        }
+                    }
+                    case DOUBLE_QUOTED_VALUE -> {
+                        if (b == '"') {
+                            selfClosing = false;
+                            state = START_TAG;
+                        }
+                    }
+                    case SINGLE_QUOTED_VALUE -> {
+                        if (b == '\'') {
+                            selfClosing = false;
+                            state = START_TAG;
+                        }
+                    }
+                    case END_TAG -> {
+                        if (b == '>') {
+                            closeElement(offset + i - from + 1);
+                            state = TEXT;
+                        }
+                    }
+                    case MARKUP_DECLARATION -> {
+                        if (b == '-') {
+                            state = COMMENT_OPEN;
+                        } else if (b == '[') {
+                            delimiters = 0;
+                            state = CDATA;
+                        } else {
+                            brackets = 0;
+                            quote = 0;
+                            state = DOCUMENT_TYPE;
+                        }
+                    }
+                    case COMMENT_OPEN -> {
+                        delimiters = 0;
+                        state = COMMENT;
+                    }
+                    case COMMENT -> {
+                        if (b == '-') {
+                            delimiters++;
+                        } else if (b == '>' && delimiters >= 2) {
+                            state = TEXT;
+                        } else {
+                            delimiters = 0;
+                        }
+                    }
+                    case CDATA -> {
+                        if (b == ']') {
+                            delimiters++;
+                        } else if (b == '>' && delimiters >= 2) {
+                            state = TEXT;
+                        } else {
+                            delimiters = 0;
+                        }
+                    }
+                    case DOCUMENT_TYPE -> {
+                        if (quote != 0) {
+                            if (b == quote) {
+                                quote = 0;
+                            }
+                        } else if (b == '"' || b == '\'') {
+                            quote = b;
+                        } else if (b == '[') {
+                            brackets++;
+                        } else if (b == ']') {
+                            brackets--;
+                        } else if (b == '>' && brackets == 0) {
+                            state = TEXT;
+                        }
+                    }
+                    case PROCESSING_INSTRUCTION -> {
+                        if (b == '>' && delimiters == 1) {
+                            state = TEXT;
+                        } else {
+                            delimiters = b == '?' ? 1 : 0;
+                        }
+                    }
+                    default -> throw new IllegalStateException("Unknown state " + state);
+                }
+            }
+            offset += length;
+        }
+
+        ElementBoundaries finish() {
+            if (state != TEXT || depth != 0) {
+                throw new XmlParsingException("Document ended before element was closed");
+            }
+            return boundaries;
+        }
+
+        /**
+         * Keeps the local name of the tag, dropping its prefix.
+         * Names longer than the longest section are only counted, as they can not match any section.
+         */
+        private void appendToName(byte b) {
+            if (b == ':') {
+                nameLength = 0;
+                return;
+            }
+            if (nameLength < name.length) {
+                name[nameLength] = b;
+            }
+            nameLength++;
+        }
+
+        private void openElement(boolean closed, long tagEnd) {
+            if (depth == matched && depth < sections.length && nameMatches(sections[depth])) {
+                matched++;
+                if (matched == sections.length) {
+                    elementStart = tagStart;
+                }
+            }
+            depth++;
+            state = TEXT;
+            if (closed) {
+                closeElement(tagEnd);
+            }
+        }
+
+        private void closeElement(long tagEnd) {
+            depth--;
+            if (matched > depth) {
+                if (matched == sections.length) {
+                    boundaries.add(elementStart, tagEnd);
+                }
+                matched = depth;
+            }
+        }
+
+        private boolean nameMatches(byte[] section) {
+            return nameLength == section.length && Arrays.equals(name, 0, nameLength, section, 0, nameLength);
+        }
+
+        private static boolean isWhiteSpace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package io.jonasg.xjx;
+
+import java.io.Reader;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import io.jonasg.xjx.scanners.Scanner;
+
+/**
+ * Tokenizes a UTF-8 encoded XML document that is fed one buffer at a time, without ever blocking on input.
+ * Meant for event loops such as those of non-blocking servers, where the next bytes are pushed once they arrive.
+ * <p>
+ * Every buffer fed is tokenized as far as it goes and reported to the {@link TokenEmitter}, the tokenizer then returns
+ * {@link Status#NEED_MORE_INPUT} rather than waiting for the rest of the document. A token cut off by the end of a
+ * buffer, whether mid-tag, mid-attribute, mid-comment, mid-CDATA or mid-character, is not reported partially: the
+ * scanner is rolled back to the start of the token and resumes once more input is fed.
+ * Only the characters of the token being scanned are held on to in between. The search for the end of character
+ * data, a CDATA section or a comment carries on where the previous buffer ran out, so a long token split over many
+ * buffers is scanned only once.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * var tokenizer = new FeedableTokenizer(emitter);
+ * // for every buffer received
+ * tokenizer.feed(buffer);
+ * // once the connection is closed
+ * tokenizer.endOfInput();
+ * }</pre>
+ * A tokenizer is meant for a single document and is not thread-safe, a single thread at a time may feed it.
+ */
+public class FeedableTokenizer {
+
+    /**
+     * Resumes after a token was reported, determining the scanner for the upcoming token.
+     * Every scanner reports at most one token, any reading it does after that is only to determine the next scanner.
+     */
+    private static final Scanner NEXT_SCANNER = (reader, emitter) -> Scanner.nextScanner(reader);
+
+    private final FeedReader input = new FeedReader();
+
+    private final CharArrayPositionedReader reader;
+
+    private final MarkingTokenEmitter emitter;
+
+    private Scanner scanner = Scanner.WHITE_SPACE_SCANNER;
+
+    private boolean ended;
+
+    public FeedableTokenizer(TokenEmitter emitter) {
+        this(emitter, new SymbolTable());
+    }
+
+    /**
+     * @param emitter the emitter receiving the tokens as they are scanned
+     * @param symbolTable the table resolving tag and attribute names
+     */
+    public FeedableTokenizer(TokenEmitter emitter, SymbolTable symbolTable) {
+        this.reader = new CharArrayPositionedReader(input, symbolTable);
+        this.emitter = new MarkingTokenEmitter(emitter);
+    }
+
+    public enum Status {
+        /**
+         * Every complete token fed so far has been reported, the rest of the document is needed to continue.
+         */
+        NEED_MORE_INPUT,
+        /**
+         * The whole document has been tokenized.
+         */
+        END_OF_DOCUMENT,
+        /**
+         * The emitter stopped the tokenization, any further input is ignored.
+         */
+        STOPPED
+    }
+
+    /**
+     * Tokenizes the remaining bytes of the buffer along with any bytes fed before that did not make up a complete
+     * token. The buffer is consumed entirely and can be reused once the call returns.
+     * @param bytes the next UTF-8 encoded bytes of the document, a multibyte character may be split across buffers
+     * @throws io.jonasg.xjx.scanners.XmlParsingException when the document is malformed
+     * @throws IllegalStateException when called after {@link #endOfInput()}
+     */
+    public Status feed(ByteBuffer bytes) {
+        if (ended) {
+            throw new IllegalStateException("Can not feed input after its end");
+        }
+        if (emitter.stopped()) {
+            bytes.position(bytes.limit());
+            return Status.STOPPED;
+        }
+        input.feed(bytes);
+        return tokenize();
+    }
+
+    /**
+     * Tokenizes whatever was fed and not yet tokenized, as the document is complete.
+     * @throws io.jonasg.xjx.scanners.XmlParsingException when the document ends before a token is complete
+     */
+    public Status endOfInput() {
+        if (!ended) {
+            ended = true;
+            input.endOfInput();
+        }
+        if (emitter.stopped()) {
+            return Status.STOPPED;
+        }
+        return tokenize();
+    }
+
+    private Status tokenize() {
+        while (scanner != null && !emitter.stopped()) {
+            reader.mark();
+            emitter.resumeWith = null;
+            try {
+                scanner = scanner.scan(reader, emitter);
+            } catch (NeedMoreInput e) {
+                reader.reset();
+                if (emitter.resumeWith != null) {
+                    scanner = emitter.resumeWith;
+                }
+                return Status.NEED_MORE_INPUT;
+            }
+        }
+        return scanner == null ? Status.END_OF_DOCUMENT : Status.STOPPED;
+    }
+
+    /**
+     * Thrown by the input when the characters fed so far are read and more are expected, unwinding the scanner.
+     */
+    private static final class NeedMoreInput extends RuntimeException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private static final NeedMoreInput INSTANCE = new NeedMoreInput();
+
+        private NeedMoreInput() {
+            super("More input needed", null, false, false);
+        }
+    }
+
+    /**
+     * Moves the mark of the reader past every token reported, so that a rollback never reports a token twice.
+     */
+    private final class MarkingTokenEmitter implements TokenEmitter {
+
+        private final TokenEmitter delegate;
+
+        private Scanner resumeWith;
+
+        MarkingTokenEmitter(TokenEmitter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void emit(Token<?> token) {
+            delegate.emit(token);
+            reported();
+        }
+
+        @Override
+        public void startTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+            delegate.startTag(namespace, name, attributes, selfClosing);
+            reported();
+        }
+
+        @Override
+        public void endTag(String namespace, String name) {
+            delegate.endTag(namespace, name);
+            reported();
+        }
+
+        @Override
+        public void characters(CharSequence data) {
+            delegate.characters(data);
+            reported();
+        }
+
+        @Override
+        public void startComment() {
+            delegate.startComment();
+            reported();
+        }
+
+        @Override
+        public void closeComment(String body) {
+            delegate.closeComment(body);
+            reported();
+        }
+
+        @Override
+        public void docTypeDeclaration() {
+            delegate.docTypeDeclaration();
+            reported();
+        }
+
+        @Override
+        public boolean stopped() {
+            return delegate.stopped();
+        }
+
+        private void reported() {
+            reader.mark();
+            resumeWith = NEXT_SCANNER;
+        }
+    }
+
+    /**
+     * The characters decoded from the bytes fed, handed to the reader as it asks for them.
+     * Asking for characters when all were read and the input has not ended throws {@link NeedMoreInput}.
+     */
+    private static final class FeedReader extends Reader {
+
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        /**
+         * Bytes not decoded yet, the start of a multibyte character cut off by the end of the last buffer.
+         */
+        private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+        private CharBuffer chars = CharBuffer.allocate(0);
+
+        private boolean ended;
+
+        private boolean started;
+
+        void feed(ByteBuffer fed) {
+            if (bytes.hasRemaining()) {
+                fed = ByteBuffer.allocate(bytes.remaining() + fed.remaining()).put(bytes).put(fed).flip();
+            }
+            decode(fed);
+            bytes = fed.hasRemaining() ? ByteBuffer.allocate(fed.remaining()).put(fed).flip() : ByteBuffer.allocate(0);
+        }
+
+        void endOfInput() {
+            ended = true;
+            decode(bytes);
+        }
+
+        private void decode(ByteBuffer in) {
+            int needed = chars.remaining() + (int) (in.remaining() * decoder.maxCharsPerByte()) + 1;
+            if (needed > chars.capacity()) {
+                chars = CharBuffer.allocate(Math.max(needed, chars.capacity() * 2)).put(chars);
+            } else {
+                chars.compact();
+            }
+            decoder.decode(in, chars, ended);
+            if (ended) {
+                decoder.flush(chars);
+            }
+            chars.flip();
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (!started && chars.hasRemaining()) {
+                started = true;
+                if (chars.get(chars.position()) == '\uFEFF') {
+                    chars.get();
+                }
+            }
+            if (!chars.hasRemaining()) {
+                if (ended) {
+                    return -1;
+                }
+                throw NeedMoreInput.INSTANCE;
+            }
+            int read = Math.min(length, chars.remaining());
+            chars.get(buffer, offset, read);
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
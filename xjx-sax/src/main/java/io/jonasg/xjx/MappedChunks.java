@@ -0,0 +1,64 @@
+package io.jonasg.xjx;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The consecutive chunks of a file, each memory-mapped with {@link FileChannel#map} once it is asked for.
+ * <p>
+ * Only the chunk being read is mapped, which allows reading files larger than a single mapping can hold (2 GB).
+ * Earlier chunks are released by the garbage collector. A chunk starts with the bytes of the previous chunk that
+ * were left unread, so that a {@link Utf8Reader} decodes a character split by a chunk boundary in place.
+ */
+public class MappedChunks implements Utf8Reader.Chunks, Closeable {
+
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 28;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final long chunkSize;
+
+    private long mapped;
+
+    public MappedChunks(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param channel the channel to read, it is closed along with the chunks
+     * @param chunkSize the number of bytes mapped at once, at most {@link Integer#MAX_VALUE}
+     */
+    public MappedChunks(FileChannel channel, long chunkSize) throws IOException {
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + Integer.MAX_VALUE + " but was " + chunkSize);
+        }
+        this.channel = channel;
+        this.size = channel.size();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Maps the next chunk of the file, it holds at least one byte more than the unread bytes it starts with.
+     */
+    @Override
+    public ByteBuffer next(int unread) throws IOException {
+        if (mapped >= size) {
+            return null;
+        }
+        long start = mapped - unread;
+        long length = Math.min(Math.max(chunkSize, unread + 1L), size - start);
+        mapped = start + length;
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
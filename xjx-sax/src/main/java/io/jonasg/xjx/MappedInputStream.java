@@ -0,0 +1,73 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * {@link InputStream} over a file that is memory-mapped one chunk at a time through {@link MappedChunks}.
+ * <p>
+ * Reading copies the mapped bytes into the given array, a {@link Utf8Reader} reads {@link MappedChunks} directly
+ * to decode them in place instead.
+ */
+public class MappedInputStream extends InputStream {
+
+    public static final long DEFAULT_CHUNK_SIZE = MappedChunks.DEFAULT_CHUNK_SIZE;
+
+    private final MappedChunks chunks;
+
+    private ByteBuffer chunk;
+
+    public MappedInputStream(Path file) throws IOException {
+        this.chunks = new MappedChunks(file);
+    }
+
+    /**
+     * @param channel the channel to read, it is closed along with the stream
+     * @param chunkSize the number of bytes mapped at once, at most {@link Integer#MAX_VALUE}
+     */
+    public MappedInputStream(FileChannel channel, long chunkSize) throws IOException {
+        this.chunks = new MappedChunks(channel, chunkSize);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureChunk()) {
+            return -1;
+        }
+        return chunk.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int read = Math.min(length, chunk.remaining());
+        chunk.get(bytes, offset, read);
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunk = null;
+        chunks.close();
+    }
+
+    /**
+     * Maps the next chunk of the file when the current one is exhausted.
+     * @return false when the whole file has been read
+     */
+    private boolean ensureChunk() throws IOException {
+        if (chunk != null && chunk.hasRemaining()) {
+            return true;
+        }
+        chunk = chunks.next(0);
+        return chunk != null;
+    }
+}
@@ -20,4 +20,49 @@ public interface PositionedReader {
     Character getCurrentChar();
 
     void ltrim();
+
+    /**
+     * Peeks at a character ahead of the current position without consuming anything.
+     * @param offset the distance from the current position, 0 being the next character to be read
+     * @return the character or -1 when the input ends before reaching it
+     */
+    int peekChar(int offset);
+
+    /**
+     * Checks whether the characters starting at the given distance from the current position equal the given prefix,
+     * without consuming anything.
+     * @param offset the distance from the current position, 0 being the next character to be read
+     * @param prefix the characters to compare with
+     * @return true when all characters of the prefix match
+     */
+    boolean regionMatches(int offset, String prefix);
+
+    /**
+     * Reads up to, but not including, the given character or the end of the input.
+     * @param until the character to stop at, it is not consumed
+     * @return the characters read, possibly a view that is only valid until the reader is used again
+     */
+    CharSequence readSliceUntil(char until);
+
+    /**
+     * Reads up to, but not including, the given value and consumes the value itself.
+     * @param until the value to stop at
+     * @return the characters read, possibly a view that is only valid until the reader is used again,
+     * or null when the value is not found before the end of the input
+     */
+    CharSequence readSliceUntil(String until);
+
+    /**
+     * Reads a tag or attribute name, up to but not including the first whitespace, {@code >}, {@code /} or {@code =}.
+     * @return the name read, empty when the current position is not on a name
+     */
+    QualifiedName readName();
+
+    /**
+     * Skips the remainder of the element whose start tag was just read, up to and including its matching end tag.
+     * Nested elements are only scanned for their boundaries, no names, attributes or character data are read.
+     * Comments, CDATA sections and processing instructions are skipped as a whole.
+     * @throws io.jonasg.xjx.scanners.XmlParsingException when the input ends before the element is closed
+     */
+    void skipElement();
 }
@@ -0,0 +1,25 @@
+package io.jonasg.xjx;
+
+/**
+ * A tag or attribute name as it appears in the document, split into its namespace prefix and local name.
+ * @param qualifiedName the name including the namespace prefix, if any
+ * @param namespace the namespace prefix or null when no namespace is present
+ * @param name the name without the namespace prefix
+ */
+public record QualifiedName(String qualifiedName, String namespace, String name) {
+
+    public static QualifiedName of(String qualifiedName) {
+        int separator = qualifiedName.indexOf(':');
+        if (separator == -1) {
+            return new QualifiedName(qualifiedName, null, qualifiedName);
+        }
+        return new QualifiedName(qualifiedName, qualifiedName.substring(0, separator), qualifiedName.substring(separator + 1));
+    }
+
+    /**
+     * @return whether the given character can not be part of a tag or attribute name and hence ends it
+     */
+    static boolean endsName(int character) {
+        return character == '>' || character == '/' || character == '=' || Character.isWhitespace(character);
+    }
+}
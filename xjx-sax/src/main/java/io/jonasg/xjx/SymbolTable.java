@@ -0,0 +1,136 @@
+package io.jonasg.xjx;
+
+/**
+ * Resolves names read from a character buffer to canonical {@link QualifiedName} instances.
+ * <p>
+ * Every occurrence of the same name resolves to the same instance, including the {@link String}s it holds,
+ * so names are only allocated the first time they are encountered and can be compared by identity afterwards.
+ * Namespace prefixes and local names are canonical as well.
+ * <p>
+ * Lookups are lock free and safe to be shared between threads, only adding a new name takes a lock.
+ * Once {@code maxSize} names are known, new names are still resolved but no longer remembered,
+ * which bounds the memory used on documents with an unbounded number of distinct names.
+ */
+public class SymbolTable {
+
+    static final int DEFAULT_MAX_SIZE = 16_384;
+
+    private final int maxSize;
+
+    private volatile Entry[] entries = new Entry[64];
+
+    private volatile int size;
+
+    public SymbolTable() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SymbolTable(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param buffer the buffer holding the name
+     * @param start the index of the first character of the name
+     * @param end the index right after the last character of the name
+     * @return the canonical name for the given characters
+     */
+    public QualifiedName lookup(char[] buffer, int start, int end) {
+        int hash = hash(buffer, start, end);
+        Entry entry = find(entries, buffer, start, end, hash);
+        return entry != null ? entry.symbol : add(buffer, start, end, hash);
+    }
+
+    /**
+     * @param name the name
+     * @return the canonical name for the given name
+     */
+    public QualifiedName lookup(String name) {
+        return lookup(name.toCharArray(), 0, name.length());
+    }
+
+    /**
+     * @return the number of names held by the table
+     */
+    public int size() {
+        return size;
+    }
+
+    private synchronized QualifiedName add(char[] buffer, int start, int end, int hash) {
+        Entry existing = find(entries, buffer, start, end, hash);
+        if (existing != null) {
+            return existing.symbol;
+        }
+        // resolving the prefix and local name may add them, and resize the table, so it is only read afterwards
+        QualifiedName symbol = symbol(buffer, start, end);
+        if (size >= maxSize) {
+            return symbol;
+        }
+        Entry[] table = entries;
+        int bucket = hash & (table.length - 1);
+        if (size >= table.length * 3 / 4) {
+            table = resize(table);
+            bucket = hash & (table.length - 1);
+        }
+        table[bucket] = new Entry(hash, symbol, table[bucket]);
+        size++;
+        return symbol;
+    }
+
+    private static Entry find(Entry[] table, char[] buffer, int start, int end, int hash) {
+        for (Entry entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.matches(buffer, start, end)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private QualifiedName symbol(char[] buffer, int start, int end) {
+        String qualifiedName = new String(buffer, start, end - start);
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == ':') {
+                String namespace = lookup(buffer, start, i).qualifiedName();
+                String name = lookup(buffer, i + 1, end).qualifiedName();
+                return new QualifiedName(qualifiedName, namespace, name);
+            }
+        }
+        return new QualifiedName(qualifiedName, null, qualifiedName);
+    }
+
+    private Entry[] resize(Entry[] table) {
+        Entry[] resized = new Entry[table.length * 2];
+        for (Entry entry : table) {
+            for (; entry != null; entry = entry.next) {
+                int bucket = entry.hash & (resized.length - 1);
+                resized[bucket] = new Entry(entry.hash, entry.symbol, resized[bucket]);
+            }
+        }
+        entries = resized;
+        return resized;
+    }
+
+    private static int hash(char[] buffer, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Entry(int hash, QualifiedName symbol, Entry next) {
+
+        boolean matches(char[] buffer, int start, int end) {
+            String value = symbol.qualifiedName();
+            if (value.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) != buffer[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
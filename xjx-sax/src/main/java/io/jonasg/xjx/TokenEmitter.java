@@ -1,6 +1,73 @@
 package io.jonasg.xjx;
 
+/**
+ * Receives the tokens produced by the scanners.
+ * <p>
+ * Scanners report each token through one of the typed callbacks. By default these wrap the values in a
+ * {@link Token} and hand it to {@link #emit(Token)}, push based consumers can override them to receive the values
+ * directly without any intermediate token objects being created.
+ */
 public interface TokenEmitter {
 
     void emit(Token<?> token);
+
+    /**
+     * Called for a start tag or a self-closing tag.
+     * @param namespace the namespace of the tag or null when no namespace is present
+     * @param name the name of the tag
+     * @param attributes the attributes of the tag
+     * @param selfClosing whether the tag is self-closing and hence has no matching end tag
+     */
+    default void startTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+        var startTag = attributes.isPresent() ? new StartTag(name, namespace, attributes) : new StartTag(name, namespace);
+        emit(new Token<>(selfClosing ? Token.Type.SELF_CLOSING_TAG : Token.Type.START_TAG, startTag));
+    }
+
+    /**
+     * Called for an end tag.
+     * @param namespace the namespace of the tag or null when no namespace is present
+     * @param name the name of the tag
+     */
+    default void endTag(String namespace, String name) {
+        emit(new Token<>(Token.Type.END_TAG, new EndTag(namespace, name)));
+    }
+
+    /**
+     * Called for character data, including the content of CDATA sections.
+     * @param data the character data, possibly a view on the reader's buffer that is only valid for the duration
+     *             of the call
+     */
+    default void characters(CharSequence data) {
+        emit(new Token<>(Token.Type.CHARACTER_DATA, data.toString()));
+    }
+
+    /**
+     * Called for the opening of a comment.
+     */
+    default void startComment() {
+        emit(new Token<>(Token.Type.START_COMMENT));
+    }
+
+    /**
+     * Called for the body of a comment up to and including its closing.
+     * @param body the body of the comment
+     */
+    default void closeComment(String body) {
+        emit(new Token<>(Token.Type.CLOSE_COMMENT, body));
+    }
+
+    /**
+     * Called for the document type declaration.
+     */
+    default void docTypeDeclaration() {
+        emit(new Token<>(Token.Type.DOC_TYPE_DECLARATION));
+    }
+
+    /**
+     * Checked by the tokenizer after every scan, tokenizing stops once it returns true.
+     * @return whether no further tokens should be emitted
+     */
+    default boolean stopped() {
+        return false;
+    }
 }
@@ -7,26 +7,62 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import io.jonasg.xjx.scanners.Scanner;
-import io.jonasg.xjx.scanners.WhiteSpaceScanner;
 
 /**
- * Tokenize an XML document into a stream of {@link Token}.
+ * Tokenize an XML document, either by pushing every token to a {@link TokenEmitter}
+ * or as a stream of {@link Token}.
  */
 public class Tokenizer {
 
+    private final SymbolTable symbolTable;
+
+    public Tokenizer() {
+        this(new SymbolTable());
+    }
+
+    /**
+     * @param symbolTable the table resolving tag and attribute names, shared by every document tokenized
+     */
+    public Tokenizer(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * Tokenizes the whole document, reporting every token to the typed callbacks of the given emitter.
+     * No {@link Token} instances are created unless the emitter relies on the default callbacks.
+     * @param reader the document to tokenize
+     * @param emitter the emitter receiving the tokens
+     */
+    public void tokenize(Reader reader, TokenEmitter emitter) {
+        tokenize(new CharArrayPositionedReader(reader, symbolTable), emitter);
+    }
+
+    /**
+     * Tokenizes the whole document read by the given reader, reporting every token to the typed callbacks
+     * of the given emitter.
+     * @param reader the reader positioned at the start of the document
+     * @param emitter the emitter receiving the tokens
+     */
+    public void tokenize(PositionedReader reader, TokenEmitter emitter) {
+        Scanner scanner = Scanner.WHITE_SPACE_SCANNER;
+        while (scanner != null && !emitter.stopped()) {
+            scanner = scanner.scan(reader, emitter);
+        }
+    }
+
     public Stream<Token<?>> tokenize(Reader reader) {
-        return StreamSupport.stream(new TokenSpliterator(reader), false);
+        return StreamSupport.stream(new TokenSpliterator(reader, symbolTable), false);
     }
 
     static class TokenSpliterator implements Spliterator<Token<?>> {
 
-        private final BufferedPositionedReader reader;
+        private final PositionedReader reader;
 
         private Scanner scanner;
 
-        public TokenSpliterator(Reader reader) {
-            this.scanner = new WhiteSpaceScanner();
-            this.reader = new BufferedPositionedReader(reader);
+        public TokenSpliterator(Reader reader, SymbolTable symbolTable) {
+            this.scanner = Scanner.WHITE_SPACE_SCANNER;
+            this.reader = new CharArrayPositionedReader(reader, symbolTable);
         }
 
         @Override
@@ -0,0 +1,258 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Reader} decoding UTF-8 encoded bytes, read from an {@link InputStream}, a {@link ByteBuffer} or consecutive
+ * {@link Chunks} of them.
+ * <p>
+ * Bytes are decoded straight into the buffer handed to {@link #read(char[], int, int)}, a byte at a time with a
+ * fast path for ASCII, without going through a {@link java.nio.charset.CharsetDecoder} and its intermediate buffers.
+ * Only a window of an input stream is held at once, buffers and chunks, heap or direct, are read in place.
+ * A leading byte order mark is skipped and malformed input is replaced by {@code U+FFFD}.
+ */
+public class Utf8Reader extends Reader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final InputStream inputStream;
+
+    private final Chunks chunks;
+
+    private byte[] bytes;
+
+    /**
+     * The direct buffer being read in place, {@code bytes} is read when null.
+     */
+    private ByteBuffer direct;
+
+    private int position;
+
+    private int limit;
+
+    private boolean endOfInput;
+
+    private boolean started;
+
+    private char pendingLowSurrogate;
+
+    public Utf8Reader(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.chunks = null;
+        this.bytes = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Reads the remaining bytes of the given buffer in place, its position is moved to its limit.
+     * @param byteBuffer the UTF-8 encoded bytes
+     */
+    public Utf8Reader(ByteBuffer byteBuffer) {
+        this.inputStream = null;
+        this.chunks = null;
+        this.endOfInput = true;
+        use(byteBuffer);
+        byteBuffer.position(byteBuffer.limit());
+    }
+
+    /**
+     * Reads every chunk in place, a character split by the end of a chunk is decoded from the next chunk.
+     * @param chunks the UTF-8 encoded bytes, they are not closed
+     */
+    public Utf8Reader(Chunks chunks) {
+        this.inputStream = null;
+        this.chunks = chunks;
+    }
+
+    public Utf8Reader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!started) {
+            started = true;
+            skipByteOrderMark();
+        }
+        int index = offset;
+        int end = offset + length;
+        if (pendingLowSurrogate != 0) {
+            chars[index++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (index < end) {
+            // once characters are decoded, return them rather than blocking on an input stream for more
+            if (position == limit && (index > offset || !ensure(1))) {
+                break;
+            }
+            int asciiEnd = Math.min(limit, position + (end - index));
+            if (direct == null) {
+                while (position < asciiEnd && bytes[position] >= 0) {
+                    chars[index++] = (char) bytes[position++];
+                }
+            } else {
+                while (position < asciiEnd && direct.get(position) >= 0) {
+                    chars[index++] = (char) direct.get(position++);
+                }
+            }
+            if (index < end && position < limit && byteAt(position) < 0) {
+                index = decode(chars, index, end);
+            }
+        }
+        int read = index - offset;
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inputStream != null) {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Decodes a single multi-byte sequence, the low surrogate of a supplementary character is kept for the next read
+     * when it does not fit.
+     * @return the index after the decoded characters
+     */
+    private int decode(char[] chars, int index, int end) throws IOException {
+        int lead = byteAt(position) & 0xFF;
+        int length;
+        int codePoint;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+            codePoint = lead & 0x1F;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            codePoint = lead & 0x0F;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            codePoint = lead & 0x07;
+        } else {
+            position++;
+            chars[index++] = REPLACEMENT;
+            return index;
+        }
+        int available = ensure(length) ? length : limit - position;
+        int consumed = 1;
+        while (consumed < available) {
+            int next = byteAt(position + consumed);
+            if ((next & 0xC0) != 0x80) {
+                break;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+            consumed++;
+        }
+        position += consumed;
+        if (consumed < length || !isValid(codePoint, length)) {
+            chars[index++] = REPLACEMENT;
+            return index;
+        }
+        if (length < 4) {
+            chars[index++] = (char) codePoint;
+            return index;
+        }
+        chars[index++] = Character.highSurrogate(codePoint);
+        if (index < end) {
+            chars[index++] = Character.lowSurrogate(codePoint);
+        } else {
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+        }
+        return index;
+    }
+
+    private static boolean isValid(int codePoint, int length) {
+        return switch (length) {
+            case 2 -> true;
+            case 3 -> codePoint >= 0x800 && !Character.isSurrogate((char) codePoint);
+            default -> codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT;
+        };
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (ensure(3) && byteAt(position) == (byte) 0xEF && byteAt(position + 1) == (byte) 0xBB && byteAt(position + 2) == (byte) 0xBF) {
+            position += 3;
+        }
+    }
+
+    private byte byteAt(int index) {
+        return direct == null ? bytes[index] : direct.get(index);
+    }
+
+    /**
+     * Makes sure at least {@code count} bytes are available from the current position, either by compacting the
+     * window and filling it or by moving on to the next chunk.
+     * @return false when the input ends before {@code count} bytes are available
+     */
+    private boolean ensure(int count) throws IOException {
+        while (limit - position < count) {
+            if (endOfInput) {
+                return false;
+            }
+            if (chunks != null) {
+                nextChunk();
+                continue;
+            }
+            if (position > 0) {
+                System.arraycopy(bytes, position, bytes, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            fill();
+        }
+        return true;
+    }
+
+    private void nextChunk() throws IOException {
+        var chunk = chunks.next(limit - position);
+        if (chunk == null) {
+            endOfInput = true;
+        } else {
+            use(chunk);
+        }
+    }
+
+    private void use(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            direct = null;
+            bytes = buffer.array();
+            position = buffer.arrayOffset() + buffer.position();
+            limit = buffer.arrayOffset() + buffer.limit();
+        } else {
+            direct = buffer;
+            bytes = null;
+            position = buffer.position();
+            limit = buffer.limit();
+        }
+    }
+
+    private void fill() throws IOException {
+        int read = inputStream.read(bytes, limit, bytes.length - limit);
+        if (read == -1) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * The consecutive chunks of a document that does not fit a single {@link ByteBuffer}.
+     */
+    @FunctionalInterface
+    public interface Chunks {
+
+        /**
+         * @param unread the number of bytes at the end of the previous chunk that are yet to be decoded, the start of
+         *               a character split by the end of that chunk
+         * @return the next chunk, starting with the unread bytes of the previous one, or null once the document ended
+         */
+        ByteBuffer next(int unread) throws IOException;
+    }
+}
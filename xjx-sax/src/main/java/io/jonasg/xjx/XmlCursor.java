@@ -0,0 +1,230 @@
+package io.jonasg.xjx;
+
+import java.io.Reader;
+
+import io.jonasg.xjx.scanners.Scanner;
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+/**
+ * Pull based cursor over an XML document.
+ * <p>
+ * Each call to {@link #next()} scans just enough of the document to reach the next event, the values of that event
+ * are then available through the accessors until the cursor is moved again. No token or event objects are created,
+ * which makes it cheap to skip over the parts of a document that are not of interest or to stop reading early.
+ * <pre>{@code
+ * var cursor = new XmlCursor(reader);
+ * while (cursor.next() != XmlCursor.Event.END_DOCUMENT) {
+ *     if (cursor.eventType() == XmlCursor.Event.START_TAG && cursor.name().equals("Signature")) {
+ *         cursor.skipElement();
+ *     }
+ * }
+ * }</pre>
+ * Comments and the document type declaration are not reported.
+ */
+public class XmlCursor {
+
+    public enum Event {
+        START_TAG,
+        END_TAG,
+        CHARACTERS,
+        END_DOCUMENT
+    }
+
+    private final PositionedReader reader;
+
+    private final CursorEmitter emitter = new CursorEmitter();
+
+    private Scanner scanner = Scanner.WHITE_SPACE_SCANNER;
+
+    private Event eventType;
+
+    private String namespace;
+
+    private String name;
+
+    private Attributes attributes = Attributes.empty();
+
+    private final StringBuilder text = new StringBuilder();
+
+    private int depth;
+
+    private boolean pendingEndTag;
+
+    public XmlCursor(Reader reader) {
+        this(new CharArrayPositionedReader(reader));
+    }
+
+    public XmlCursor(PositionedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Moves the cursor to the next event.
+     * @return the type of the event the cursor is positioned on,
+     * {@link Event#END_DOCUMENT} once the whole document has been read
+     */
+    public Event next() {
+        if (eventType == Event.END_TAG) {
+            depth--;
+        }
+        if (pendingEndTag) {
+            pendingEndTag = false;
+            eventType = Event.END_TAG;
+            return eventType;
+        }
+        emitter.emitted = false;
+        while (!emitter.emitted) {
+            if (scanner == null) {
+                eventType = Event.END_DOCUMENT;
+                return eventType;
+            }
+            scanner = scanner.scan(reader, emitter);
+        }
+        return eventType;
+    }
+
+    /**
+     * @return whether there are events left to be read
+     */
+    public boolean hasNext() {
+        return eventType != Event.END_DOCUMENT;
+    }
+
+    /**
+     * Moves the cursor from a start tag to its matching end tag, without reporting anything in between.
+     * The content of the element is only scanned for element boundaries, it is not tokenized.
+     * @throws IllegalStateException when the cursor is not positioned on a start tag
+     * @throws XmlParsingException when the document ends before the element is closed
+     */
+    public void skipElement() {
+        requireStartTag("skip an element");
+        if (pendingEndTag) {
+            next();
+            return;
+        }
+        reader.skipElement();
+        scanner = Scanner.nextScanner(reader);
+        eventType = Event.END_TAG;
+        attributes = Attributes.empty();
+        text.setLength(0);
+    }
+
+    /**
+     * @return the type of the event the cursor is positioned on or null before the first call to {@link #next()}
+     */
+    public Event eventType() {
+        return eventType;
+    }
+
+    /**
+     * @return the name of the current start or end tag
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the namespace of the current start or end tag or null when no namespace is present
+     */
+    public String namespace() {
+        return namespace;
+    }
+
+    /**
+     * @return the number of attributes of the current start tag
+     */
+    public int attributeCount() {
+        return eventType == Event.START_TAG ? attributes.size() : 0;
+    }
+
+    /**
+     * @param index the index of the attribute, in document order
+     * @return the name of the attribute of the current start tag at the given index
+     * @throws IllegalStateException when the cursor is not positioned on a start tag
+     */
+    public String attributeName(int index) {
+        requireStartTag("read an attribute");
+        return attributes.name(index);
+    }
+
+    /**
+     * @param index the index of the attribute, in document order
+     * @return the value of the attribute of the current start tag at the given index
+     * @throws IllegalStateException when the cursor is not positioned on a start tag
+     */
+    public String attributeValue(int index) {
+        requireStartTag("read an attribute");
+        return attributes.value(index);
+    }
+
+    private void requireStartTag(String action) {
+        if (eventType != Event.START_TAG) {
+            throw new IllegalStateException("Can only " + action + " when positioned on a start tag but was on " + eventType);
+        }
+    }
+
+    /**
+     * @return the current character data, backed by a buffer that is reused by the cursor and hence only valid
+     * until the cursor is moved, call {@code toString()} to keep it around
+     */
+    public CharSequence text() {
+        return text;
+    }
+
+    /**
+     * @return the number of elements enclosing the current event, including the current element for start and end tags
+     */
+    public int depth() {
+        return depth;
+    }
+
+    private class CursorEmitter implements TokenEmitter {
+
+        private boolean emitted;
+
+        @Override
+        public void emit(Token<?> token) {
+        }
+
+        @Override
+        public void startTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+            XmlCursor.this.eventType = Event.START_TAG;
+            XmlCursor.this.namespace = namespace;
+            XmlCursor.this.name = name;
+            XmlCursor.this.attributes = attributes;
+            text.setLength(0);
+            XmlCursor.this.pendingEndTag = selfClosing;
+            depth++;
+            emitted = true;
+        }
+
+        @Override
+        public void endTag(String namespace, String name) {
+            XmlCursor.this.eventType = Event.END_TAG;
+            XmlCursor.this.namespace = namespace;
+            XmlCursor.this.name = name;
+            text.setLength(0);
+            emitted = true;
+        }
+
+        @Override
+        public void characters(CharSequence data) {
+            XmlCursor.this.eventType = Event.CHARACTERS;
+            text.setLength(0);
+            text.append(data);
+            emitted = true;
+        }
+
+        @Override
+        public void startComment() {
+        }
+
+        @Override
+        public void closeComment(String body) {
+        }
+
+        @Override
+        public void docTypeDeclaration() {
+        }
+    }
+}
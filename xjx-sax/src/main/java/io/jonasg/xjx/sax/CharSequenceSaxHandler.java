@@ -0,0 +1,22 @@
+package io.jonasg.xjx.sax;
+
+/**
+ * A {@link SaxHandler} that receives character data as a {@link CharSequence} instead of a {@link String}.
+ * <p>
+ * The character data is handed over as a view on the parser's buffer, so no {@link String} is created for character
+ * data the handler ignores. The view is only valid for the duration of the call, use {@code toString()} to keep
+ * its content around.
+ */
+public interface CharSequenceSaxHandler extends SaxHandler {
+
+	/**
+	 * Called when character data is encountered.
+	 * @param data a view on the character data, only valid for the duration of the call
+	 */
+	void characters(CharSequence data);
+
+	@Override
+	default void characters(String data) {
+		characters((CharSequence) data);
+	}
+}
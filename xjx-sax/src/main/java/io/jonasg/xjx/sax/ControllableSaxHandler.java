@@ -0,0 +1,14 @@
+package io.jonasg.xjx.sax;
+
+/**
+ * A {@link SaxHandler} that is handed a {@link ParserControl} to steer the parser with,
+ * for instance to skip elements it has no interest in.
+ */
+public interface ControllableSaxHandler extends SaxHandler {
+
+	/**
+	 * Called before {@link #startDocument()} with the control of the parser that is about to report the document.
+	 * @param parserControl the control, only valid while the document is being parsed
+	 */
+	void parserControl(ParserControl parserControl);
+}
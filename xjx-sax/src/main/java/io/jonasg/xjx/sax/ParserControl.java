@@ -0,0 +1,20 @@
+package io.jonasg.xjx.sax;
+
+/**
+ * Lets a {@link ControllableSaxHandler} steer the parser while it is being called.
+ */
+public interface ParserControl {
+
+	/**
+	 * Skips the content of the element whose start tag is being reported, up to its matching end tag.
+	 * The content is only scanned for element boundaries, no callbacks are made for it
+	 * and {@link SaxHandler#endTag(String, String)} is called for the skipped element right after the start tag returns.
+	 * Has no effect when called outside of {@link SaxHandler#startTag(String, String, java.util.List)}.
+	 */
+	void skipElement();
+
+	/**
+	 * Stops parsing the document, no callbacks are made anymore once the current one returns.
+	 */
+	void stopParsing();
+}
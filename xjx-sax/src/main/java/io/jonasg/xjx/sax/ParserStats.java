@@ -0,0 +1,8 @@
+package io.jonasg.xjx.sax;
+
+/**
+ * Statistics of a {@link SaxParser}, accumulated over every document it parsed.
+ * @param symbolTableSize the number of distinct tag and attribute names held by the parser's symbol table
+ */
+public record ParserStats(int symbolTableSize) {
+}
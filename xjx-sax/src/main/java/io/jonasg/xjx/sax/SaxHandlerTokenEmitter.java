@@ -0,0 +1,117 @@
+package io.jonasg.xjx.sax;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jonasg.xjx.Attributes;
+import io.jonasg.xjx.PositionedReader;
+import io.jonasg.xjx.Token;
+import io.jonasg.xjx.TokenEmitter;
+
+/**
+ * Forwards the tokens pushed by the scanners straight to a {@link SaxHandler},
+ * acting as the {@link ParserControl} of a {@link ControllableSaxHandler}.
+ */
+class SaxHandlerTokenEmitter implements TokenEmitter, ParserControl {
+
+    private final SaxHandler saxHandler;
+
+    private final PositionedReader reader;
+
+    private final CharSequenceSaxHandler charSequenceSaxHandler;
+
+    private boolean inStartTag;
+
+    private boolean skipRequested;
+
+    private boolean stopped;
+
+    SaxHandlerTokenEmitter(SaxHandler saxHandler, PositionedReader reader) {
+        this.saxHandler = saxHandler;
+        this.reader = reader;
+        this.charSequenceSaxHandler = saxHandler instanceof CharSequenceSaxHandler handler ? handler : null;
+        if (saxHandler instanceof ControllableSaxHandler controllableSaxHandler) {
+            controllableSaxHandler.parserControl(this);
+        }
+    }
+
+    @Override
+    public void emit(Token<?> token) {
+        // tokens without a SAX counterpart such as comments are not reported
+    }
+
+    @Override
+    public void startTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+        inStartTag = true;
+        try {
+            saxHandler.startTag(namespace, name, toList(attributes));
+        } finally {
+            inStartTag = false;
+        }
+        if (stopped) {
+            return;
+        }
+        if (skipRequested) {
+            skipRequested = false;
+            if (!selfClosing) {
+                reader.skipElement();
+            }
+            saxHandler.endTag(namespace, name);
+        } else if (selfClosing) {
+            saxHandler.endTag(namespace, name);
+        }
+    }
+
+    @Override
+    public void skipElement() {
+        skipRequested = inStartTag;
+    }
+
+    @Override
+    public void stopParsing() {
+        stopped = true;
+    }
+
+    @Override
+    public boolean stopped() {
+        return stopped;
+    }
+
+    @Override
+    public void endTag(String namespace, String name) {
+        saxHandler.endTag(namespace, name);
+    }
+
+    @Override
+    public void characters(CharSequence data) {
+        if (charSequenceSaxHandler != null) {
+            charSequenceSaxHandler.characters(data);
+        } else {
+            saxHandler.characters(data.toString());
+        }
+    }
+
+    @Override
+    public void startComment() {
+    }
+
+    @Override
+    public void closeComment(String body) {
+    }
+
+    @Override
+    public void docTypeDeclaration() {
+    }
+
+    private List<Attribute> toList(Attributes attributes) {
+        int size = attributes.size();
+        if (size == 0) {
+            return List.of();
+        }
+        var list = new ArrayList<Attribute>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new Attribute(attributes.name(i), attributes.value(i)));
+        }
+        return list;
+    }
+}
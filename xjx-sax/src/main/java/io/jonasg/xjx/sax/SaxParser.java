@@ -1,48 +1,94 @@
 package io.jonasg.xjx.sax;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
-import io.jonasg.xjx.EndTag;
-import io.jonasg.xjx.StartTag;
-import io.jonasg.xjx.Token;
+import io.jonasg.xjx.CharArrayPositionedReader;
+import io.jonasg.xjx.MappedChunks;
+import io.jonasg.xjx.SymbolTable;
 import io.jonasg.xjx.Tokenizer;
+import io.jonasg.xjx.Utf8Reader;
 
+/**
+ * Parses XML documents and reports them to a {@link SaxHandler}.
+ * <p>
+ * Tag and attribute names are resolved through a symbol table owned by the parser, reusing a parser for documents
+ * of the same schema means every name is handed to the handler as the same {@link String} instance.
+ * A parser can be shared between threads, every thread reuses its own read buffer from one document to the next.
+ */
 public class SaxParser {
 
+    private final SymbolTable symbolTable;
+
     private final Tokenizer tokenizer;
 
+    private final ThreadLocal<char[]> buffers = new ThreadLocal<>();
+
     public SaxParser() {
-        this.tokenizer = new Tokenizer();
+        this.symbolTable = new SymbolTable();
+        this.tokenizer = new Tokenizer(symbolTable);
     }
 
     public void parse(Reader reader, SaxHandler saxHandler) {
-        saxHandler.startDocument();
-        tokenizer.tokenize(reader)
-                .forEach(t -> handleToken(t, saxHandler));
+        char[] buffer = buffers.get();
+        if (buffer == null) {
+            buffer = new char[CharArrayPositionedReader.DEFAULT_BUFFER_SIZE];
+        } else {
+            // a document parsed by the handler, on this same thread, needs a buffer of its own
+            buffers.remove();
+        }
+        try {
+            var positionedReader = new CharArrayPositionedReader(reader, buffer, symbolTable);
+            var tokenEmitter = new SaxHandlerTokenEmitter(saxHandler, positionedReader);
+            saxHandler.startDocument();
+            tokenizer.tokenize(positionedReader, tokenEmitter);
+        } finally {
+            buffers.set(buffer);
+        }
+    }
+
+    /**
+     * Parses a UTF-8 encoded document, decoding it as it is tokenized.
+     * @param inputStream the document, it is not closed
+     * @param saxHandler the handler receiving the document
+     */
+    public void parse(InputStream inputStream, SaxHandler saxHandler) {
+        parse(new Utf8Reader(inputStream), saxHandler);
+    }
+
+    /**
+     * Parses the remaining bytes of a UTF-8 encoded document, decoding it as it is tokenized.
+     * Heap buffers are read in place, without copying the document.
+     * @param byteBuffer the document
+     * @param saxHandler the handler receiving the document
+     */
+    public void parse(ByteBuffer byteBuffer, SaxHandler saxHandler) {
+        parse(new Utf8Reader(byteBuffer), saxHandler);
     }
 
-    private void handleToken(Token<?> token, SaxHandler saxHandler) {
-        if (token.type().equals(Token.Type.START_TAG)) {
-            var startTag = (StartTag)token.value();
-            var attributes = getAttributes(startTag);
-            saxHandler.startTag(startTag.namespace(), startTag.name(), attributes);
-        } else if (token.type().equals(Token.Type.SELF_CLOSING_TAG)) {
-            var startTag = (StartTag)token.value();
-            var attributes = getAttributes(startTag);
-            saxHandler.startTag(startTag.namespace(), startTag.name(), attributes);
-            saxHandler.endTag(startTag.namespace(), startTag.name());
-        } else if (token.type().equals(Token.Type.END_TAG)) {
-            var endTag = (EndTag)token.value();
-            saxHandler.endTag(endTag.namespace(), endTag.name());
-        } else if (token.type().equals(Token.Type.CHARACTER_DATA)) {
-            saxHandler.characters((String)token.value());
+    /**
+     * Parses a UTF-8 encoded file, memory-mapping it in chunks so that files of any size can be parsed.
+     * The mapped chunks are decoded in place, without copying the document onto the heap.
+     * @param file the document
+     * @param saxHandler the handler receiving the document
+     * @throws UncheckedIOException when the file can not be read
+     */
+    public void parse(Path file, SaxHandler saxHandler) {
+        try (var chunks = new MappedChunks(file)) {
+            parse(new Utf8Reader(chunks), saxHandler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
         }
     }
 
-    private List<Attribute> getAttributes(StartTag startTagValue) {
-        return startTagValue.attributes().stream()
-                .map(a -> new Attribute(a.name(), a.value()))
-                .toList();
+    /**
+     * @return the statistics accumulated by this parser so far
+     */
+    public ParserStats stats() {
+        return new ParserStats(symbolTable.size());
     }
 }
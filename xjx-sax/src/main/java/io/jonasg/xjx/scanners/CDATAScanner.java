@@ -1,7 +1,6 @@
 package io.jonasg.xjx.scanners;
 
 import io.jonasg.xjx.PositionedReader;
-import io.jonasg.xjx.Token;
 import io.jonasg.xjx.TokenEmitter;
 
 class CDATAScanner implements Scanner {
@@ -11,9 +10,11 @@ class CDATAScanner implements Scanner {
     @Override
     public Scanner scan(PositionedReader reader, TokenEmitter tokenEmitter) {
         reader.readChars(CDATA_OPENING_TAG_LENGTH);
-        var characters = reader.readUntil("]]>")
-                .orElseThrow(() -> new XmlParsingException("CDATA tag found without closing ]]"));
-        tokenEmitter.emit(new Token<>(Token.Type.CHARACTER_DATA, characters));
+        var characters = reader.readSliceUntil("]]>");
+        if (characters == null) {
+            throw new XmlParsingException("CDATA tag found without closing ]]");
+        }
+        tokenEmitter.characters(characters);
         return Scanner.nextScanner(reader);
     }
 
@@ -1,7 +1,6 @@
 package io.jonasg.xjx.scanners;
 
 import io.jonasg.xjx.PositionedReader;
-import io.jonasg.xjx.Token;
 import io.jonasg.xjx.TokenEmitter;
 
 class DocumentTypeDeclarationScanner implements Scanner {
@@ -12,7 +11,7 @@ class DocumentTypeDeclarationScanner implements Scanner {
             throw new XmlParsingException("Document type declaration not declared correctly");
         }
         reader.readUntil("?>").orElseThrow(() -> new XmlParsingException("Document type declaration never closed"));
-        tokenEmitter.emit(new Token<>(Token.Type.DOC_TYPE_DECLARATION));
+        tokenEmitter.docTypeDeclaration();
         return Scanner.nextScanner(reader);
     }
 }
@@ -2,9 +2,7 @@ package io.jonasg.xjx.scanners;
 
 import java.util.Objects;
 
-import io.jonasg.xjx.EndTag;
 import io.jonasg.xjx.PositionedReader;
-import io.jonasg.xjx.Token;
 import io.jonasg.xjx.TokenEmitter;
 
 class EndTagScanner implements Scanner {
@@ -16,20 +14,10 @@ class EndTagScanner implements Scanner {
         if (!Objects.equals(opening, "</")) {
             throw new XmlParsingException(String.format("End tag does not start with </ in: '%s", opening + reader.currentLine() + "'"));
         }
-        var builder = new StringBuilder();
-        while(reader.hasMoreToRead() && reader.peekOneChar() != '>') {
-            builder.append(reader.readOneChar());
-        }
+        var name = reader.readName();
+        reader.readSliceUntil('>');
         reader.readOneChar();
-        var name = builder.toString();
-        String actualName = name;
-        String namespace = null;
-        if (name.contains(":")) {
-            var splitName = name.split(":");
-            namespace = splitName[0];
-            actualName = splitName[1];
-        }
-        tokenEmitter.emit(new Token<>(Token.Type.END_TAG, new EndTag(namespace, actualName)));
+        tokenEmitter.endTag(name.namespace(), name.name());
         return Scanner.nextScanner(reader);
     }
 
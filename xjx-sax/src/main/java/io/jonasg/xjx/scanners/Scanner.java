@@ -14,47 +14,45 @@ public interface Scanner {
     Scanner DOCUMENT_START_SCANNER = new DocumentTypeDeclarationScanner();
     Scanner WHITE_SPACE_SCANNER = new WhiteSpaceScanner();
 
+    /**
+     * Determines the scanner for the upcoming token by peeking at the first characters following any leading
+     * whitespace on the current line, without consuming them.
+     * @param reader the reader positioned right after the previous token
+     * @return the scanner for the next token or null when the end of the input is reached
+     */
     static Scanner nextScanner(PositionedReader reader) {
-        var peekedLine = reader.peekLine();
-        if (peekedLine == null) {
-            return null;
-        }
-        if (!peekedLine.isEmpty()) {
-            return scannerForLine(peekedLine);
-        }
-        return WHITE_SPACE_SCANNER;
-    }
-
-    private static Scanner scannerForLine(String peekedLine) {
-        var cleanedLine = removeLeadingWhitespace(peekedLine);
-        if (cleanedLine.startsWith("<!--")) {
-            return START_COMMENT_SCANNER;
-        }
-        if (cleanedLine.startsWith("</")) {
-            return END_TAG_SCANNER;
-        }
-        if (cleanedLine.startsWith("<?xml")) {
-            return DOCUMENT_START_SCANNER;
+        int character = reader.peekChar(0);
+        if (character == '\n') {
+            reader.readOneChar();
+            character = reader.peekChar(0);
         }
-        if (cleanedLine.startsWith("<![CDATA[")) {
-            return CDATA_SCANNER;
-        }
-        if (cleanedLine.startsWith("<")) {
-            return START_TAG_SCANNER;
-        }
-        return CHARACTER_SCANNER;
-    }
-
-    private static String removeLeadingWhitespace(String input) {
-        int length = input.length();
-        int startIndex = 0;
-        while (startIndex < length && Character.isWhitespace(input.charAt(startIndex))) {
-            startIndex++;
-        }
-        if (startIndex == 0) {
-            return input;
+        if (character == -1) {
+            return null;
         }
-        return input.substring(startIndex);
+        if (character == '\n') {
+            return WHITE_SPACE_SCANNER;
+        }
+        int offset = 0;
+        while (character != '\n' && character != -1 && Character.isWhitespace(character)) {
+            character = reader.peekChar(++offset);
+        }
+        if (character != '<') {
+            return CHARACTER_SCANNER;
+        }
+        return switch (reader.peekChar(offset + 1)) {
+            case '/' -> END_TAG_SCANNER;
+            case '!' -> {
+                if (reader.regionMatches(offset, "<!--")) {
+                    yield START_COMMENT_SCANNER;
+                }
+                if (reader.regionMatches(offset, "<![CDATA[")) {
+                    yield CDATA_SCANNER;
+                }
+                yield START_TAG_SCANNER;
+            }
+            case '?' -> reader.regionMatches(offset, "<?xml") ? DOCUMENT_START_SCANNER : START_TAG_SCANNER;
+            default -> START_TAG_SCANNER;
+        };
     }
 
     Scanner scan(PositionedReader reader, TokenEmitter tokenEmitter);
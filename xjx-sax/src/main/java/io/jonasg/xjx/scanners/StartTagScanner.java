@@ -2,7 +2,6 @@ package io.jonasg.xjx.scanners;
 
 import io.jonasg.xjx.Attributes;
 import io.jonasg.xjx.PositionedReader;
-import io.jonasg.xjx.StartTag;
 import io.jonasg.xjx.Token;
 import io.jonasg.xjx.TokenEmitter;
 
@@ -16,96 +15,53 @@ class StartTagScanner implements Scanner {
         if (character != '<') {
             throw new XmlParsingException("Start tag missing < in: '" + character + reader.currentLine() + "'");
         }
-        var startTagName = tokenizeTag(reader);
-        var tagType = startTagName.type;
-        var tagName = startTagName.name;
-        var currentChar = reader.getCurrentChar();
+        var name = reader.readName();
+        var tagType = Token.Type.START_TAG;
         Attributes attributes = Attributes.empty();
-        if (currentChar != null && currentChar != Character.valueOf('>')) {
+        Character terminator = reader.readOneChar();
+        if (terminator != null && terminator == '/') {
+            reader.readOneChar();
+            tagType = Token.Type.SELF_CLOSING_TAG;
+        } else if (terminator != null && terminator != '>') {
             var tokenizeAttributes = tokenizeAttributes(reader);
             attributes = tokenizeAttributes.attributes;
             tagType = tokenizeAttributes.tagType == null ? tagType : tokenizeAttributes.tagType;
         }
-        emitter.emit(new Token<>(tagType, startTag(tagName, attributes)));
+        emitter.startTag(name.namespace(), name.name(), attributes, tagType == Token.Type.SELF_CLOSING_TAG);
         return Scanner.nextScanner(reader);
     }
 
-    private StartTag startTag(String name, Attributes attributes) {
-        String actualName = name;
-        String namespace = null;
-        if (name.contains(":")) {
-            var splitName = name.split(":");
-            namespace = splitName[0];
-            actualName = splitName[1];
-
-        }
-        return attributes.isPresent() ? new StartTag(actualName, namespace, attributes) : new StartTag(actualName, namespace);
-    }
-
-    private StartTagName tokenizeTag(PositionedReader reader) {
-        StringBuilder tagNameBuilder = new StringBuilder();
-        char character;
-        Token.Type tokenType = Token.Type.START_TAG;
-        while (reader.hasMoreToRead()) {
-            character = reader.readOneChar();
-            if (character == '>') {
-                break;
-            } else if (Character.isWhitespace(character)) {
-                break;
-            } else if (character == '/') {
-                reader.readOneChar();
-                tokenType = Token.Type.SELF_CLOSING_TAG;
-                break;
-            } else if (!Character.isWhitespace(character)) {
-                tagNameBuilder.append(character);
-            }
-        }
-        return new StartTagName(tagNameBuilder.toString(), tokenType);
-    }
-
     private TokenizedAttributes tokenizeAttributes(PositionedReader reader) {
         var attributes = new Attributes();
-        var attributeNameBuilder = new StringBuilder();
-        char character;
+        String attributeName = "";
         Token.Type tagType = null;
         while (reader.hasMoreToRead()) {
-            character = reader.readOneChar();
+            int character = reader.peekChar(0);
             if (character == '>') {
+                reader.readOneChar();
                 break;
             }
             if (character == '=') {
-                String attributeName = attributeNameBuilder.toString();
-                attributeNameBuilder.setLength(0);
-                String attributeValue = readAttributeValue(reader);
-                attributes.add(attributeName, attributeValue);
+                reader.readOneChar();
+                attributes.add(attributeName, readAttributeValue(reader));
+                attributeName = "";
             } else if (character == '/') {
+                reader.readOneChar();
                 tagType = Token.Type.SELF_CLOSING_TAG;
+            } else if (Character.isWhitespace(character)) {
+                reader.readOneChar();
             } else {
-                if (!Character.isWhitespace(character)) {
-                    attributeNameBuilder.append(character);
-                }
+                attributeName = reader.readName().qualifiedName();
             }
         }
         return new TokenizedAttributes(tagType, attributes);
     }
 
     private String readAttributeValue(PositionedReader reader) {
-        StringBuilder valueBuilder = new StringBuilder();
         char quote = reader.readOneChar();
-        char character;
-        while (reader.hasMoreToRead()) {
-            character = reader.readOneChar();
-            if (character == quote) {
-                break;
-            } else {
-                valueBuilder.append(character);
-            }
-        }
-        return valueBuilder.toString();
-    }
-
-    private record StartTagName(String name, Token.Type type) {
-
+        String value = reader.readSliceUntil(quote).toString();
+        reader.readOneChar();
+        return value;
     }
 
     private record TokenizedAttributes(Token.Type tagType, Attributes attributes) {
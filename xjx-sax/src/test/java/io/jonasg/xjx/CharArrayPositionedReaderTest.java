@@ -0,0 +1,312 @@
+package io.jonasg.xjx;
+
+import java.io.StringReader;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+class CharArrayPositionedReaderTest {
+
+    @Nested
+    class ReadOneCharTest {
+
+        @Test
+        void shouldReadNewLinesAsCharacters() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("t\na"));
+
+            // when
+            Character first = reader.readOneChar();
+            Character second = reader.readOneChar();
+            Character third = reader.readOneChar();
+
+            // then
+            Assertions.assertThat(first).isEqualTo('t');
+            Assertions.assertThat(second).isEqualTo('\n');
+            Assertions.assertThat(third).isEqualTo('a');
+        }
+
+        @Test
+        void shouldReturnNull_whenReachedTheEndOfAvailableCharacters() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("t\na"));
+
+            // when
+            reader.readOneChar();
+            reader.readOneChar();
+            reader.readOneChar();
+            Character fourth = reader.readOneChar();
+            Character fifth = reader.readOneChar();
+
+            // then
+            Assertions.assertThat(fourth).isNull();
+            Assertions.assertThat(fifth).isNull();
+        }
+
+        @Test
+        void shouldNormalizeCarriageReturns() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("a\r\nb\rc"), 2);
+
+            // when
+            var read = new StringBuilder();
+            Character character;
+            while ((character = reader.readOneChar()) != null) {
+                read.append(character);
+            }
+
+            // then
+            Assertions.assertThat(read.toString()).isEqualTo("a\nb\nc");
+        }
+
+        @Test
+        void shouldRefillTheWindow_whenReadingBeyondItsSize() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("abcdefghij"), 4);
+
+            // when
+            var read = new StringBuilder();
+            while (reader.hasMoreToRead()) {
+                read.append(reader.readOneChar());
+            }
+
+            // then
+            Assertions.assertThat(read.toString()).isEqualTo("abcdefghij");
+            Assertions.assertThat(reader.getCurrentChar()).isEqualTo('j');
+        }
+    }
+
+    @Nested
+    class MarkTest {
+
+        @Test
+        void shouldKeepEverythingFromTheMarkOn_whenReadingBeyondTheWindowSize() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("abcdefghij"), 4);
+            reader.readOneChar();
+            reader.mark();
+
+            // when
+            String read = reader.readChars(8);
+            reader.reset();
+
+            // then
+            Assertions.assertThat(read).isEqualTo("bcdefghi");
+            Assertions.assertThat(reader.getCurrentChar()).isEqualTo('a');
+            Assertions.assertThat(reader.readChars(9)).isEqualTo("bcdefghij");
+        }
+    }
+
+    @Nested
+    class PeekLineTest {
+
+        @Test
+        void shouldMoveToNextLineIfAvailable() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("t\na"));
+
+            // when
+            reader.readOneChar();
+            var line = reader.peekLine();
+
+            // then
+            Assertions.assertThat(line).isEqualTo("a");
+        }
+
+        @Test
+        void shouldReturnNull_whenReachedTheEndOfAllAvailableCharacters() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("t\na"));
+
+            // when
+            reader.readOneChar();
+            reader.readOneChar();
+            reader.readOneChar();
+            var line = reader.peekLine();
+
+            // then
+            Assertions.assertThat(line).isNull();
+        }
+
+        @Test
+        void shouldGrowTheWindow_whenLineDoesNotFit() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("abcdefghij\nk"), 4);
+
+            // when
+            reader.readOneChar();
+            var line = reader.peekLine();
+            var next = reader.readOneChar();
+
+            // then
+            Assertions.assertThat(line).isEqualTo("bcdefghij");
+            Assertions.assertThat(next).isEqualTo('b');
+        }
+    }
+
+    @Nested
+    class ReadUntilTest {
+
+        @Test
+        void shouldReturnEmpty_ifUntilIsNotFound() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("a\nb\nc\nd\ne"));
+
+            // when
+            var read = reader.readUntil("none-existent");
+
+            // then
+            Assertions.assertThat(read).isEmpty();
+        }
+
+        @Test
+        void shouldReturnEverything_upToButNotIncluding_theGivenUntilValue() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("a\nb\nc\nd\ne"));
+
+            // when
+            var read = reader.readUntil("c");
+
+            // then
+            Assertions.assertThat(read).isNotEmpty().contains("a\nb\n");
+            Assertions.assertThat(reader.readOneChar()).isEqualTo('\n');
+        }
+
+        @Test
+        void shouldFindUntilValue_spanningMultipleWindows() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("some ]] text ]]> rest"), 4);
+
+            // when
+            var read = reader.readUntil("]]>");
+
+            // then
+            Assertions.assertThat(read).contains("some ]] text ");
+            Assertions.assertThat(reader.readChars(5)).isEqualTo(" rest");
+        }
+    }
+
+    @Nested
+    class CurrentLineTest {
+
+        @Test
+        void shouldReturnCurrentLine() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("a\nb\nc\nd\ne"));
+
+            // when
+            var read = reader.currentLine();
+
+            // then
+            Assertions.assertThat(read).isEqualTo("a");
+        }
+
+        @Test
+        void shouldReturnNull_ifAtEndOfAvailableCharactersToRead() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("a"));
+
+            // when
+            reader.readOneChar();
+            reader.readOneChar();
+            var read = reader.currentLine();
+
+            // then
+            Assertions.assertThat(read).isNull();
+        }
+    }
+
+    @Nested
+    class PeekCharTest {
+
+        @Test
+        void shouldPeekAhead_withoutConsuming() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("<a>text</a>"), 2);
+
+            // when
+            int first = reader.peekChar(0);
+            int fourth = reader.peekChar(3);
+
+            // then
+            Assertions.assertThat(first).isEqualTo('<');
+            Assertions.assertThat(fourth).isEqualTo('t');
+            Assertions.assertThat(reader.readOneChar()).isEqualTo('<');
+        }
+
+        @Test
+        void shouldReturnMinusOne_whenPeekingBeyondTheInput() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("ab"));
+
+            // when
+            int peeked = reader.peekChar(2);
+
+            // then
+            Assertions.assertThat(peeked).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    class RegionMatchesTest {
+
+        @Test
+        void shouldMatchPrefix_atTheGivenOffset() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("  <![CDATA[x]]>"), 4);
+
+            // when
+            boolean cdata = reader.regionMatches(2, "<![CDATA[");
+            boolean comment = reader.regionMatches(2, "<!--");
+
+            // then
+            Assertions.assertThat(cdata).isTrue();
+            Assertions.assertThat(comment).isFalse();
+            Assertions.assertThat(reader.readOneChar()).isEqualTo(' ');
+        }
+
+        @Test
+        void shouldNotMatch_whenPrefixRunsBeyondTheInput() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("<!-"));
+
+            // when
+            boolean matches = reader.regionMatches(0, "<!--");
+
+            // then
+            Assertions.assertThat(matches).isFalse();
+        }
+    }
+
+    @Nested
+    class SkipElementTest {
+
+        @Test
+        void shouldSkipToTheMatchingEndTag() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("""
+                    <a attr="x>y" other='/>'><a/><b>text</b><!-- </a> --><![CDATA[</a>]]><?pi </a>?></a><next/>"""), 4);
+            reader.readChars(26);
+
+            // when
+            reader.skipElement();
+
+            // then
+            Assertions.assertThat(reader.readChars(7)).isEqualTo("<next/>");
+        }
+
+        @Test
+        void shouldFail_whenInputEndsBeforeTheElementIsClosed() {
+            // given
+            var reader = new CharArrayPositionedReader(new StringReader("<a><b></b>"));
+            reader.readChars(3);
+
+            // when / then
+            Assertions.assertThatThrownBy(reader::skipElement)
+                    .isInstanceOf(XmlParsingException.class);
+        }
+    }
+}
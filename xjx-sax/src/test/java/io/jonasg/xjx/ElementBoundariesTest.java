@@ -0,0 +1,169 @@
+package io.jonasg.xjx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+class ElementBoundariesTest {
+
+    @Test
+    void findEveryElementAtThePath() {
+        // given
+        String document = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Feed>
+                    <Header><Item>not an item</Item></Header>
+                    <Items>
+                        <Item id="1"><Name>first</Name><Item>nested</Item></Item>
+                        <Other><Item>not an item</Item></Other>
+                        <Item id="2"/>
+                        <Item>third</Item>
+                    </Items>
+                </Feed>
+                """;
+
+        // when
+        var elements = scan(document, "Feed", "Items", "Item");
+
+        // then
+        assertThat(elements).containsExactly(
+                "<Item id=\"1\"><Name>first</Name><Item>nested</Item></Item>",
+                "<Item id=\"2\"/>",
+                "<Item>third</Item>");
+    }
+
+    @Test
+    void ignoreMarkupInsideCommentsCDataProcessingInstructionsAndAttributeValues() {
+        // given
+        String document = """
+                <!DOCTYPE Items [<!ENTITY gt-sign ">"><!ELEMENT Item (#PCDATA)>]>
+                <Items>
+                    <!-- <Item>commented</Item> -- -->
+                    <Item value="<Item/>" other='/>'><![CDATA[</Item><Item>]]]]></Item>
+                    <?instruction <Item/> ?>
+                    <Item a="1" />
+                </Items>
+                """;
+
+        // when
+        var elements = scan(document, "Items", "Item");
+
+        // then
+        assertThat(elements).containsExactly(
+                "<Item value=\"<Item/>\" other='/>'><![CDATA[</Item><Item>]]]]></Item>",
+                "<Item a=\"1\" />");
+    }
+
+    @Test
+    void matchLocalNamesOfPrefixedElements() {
+        // given
+        String document = "<ns:Items xmlns:ns=\"urn:items\"><ns:Item>a</ns:Item><Item>b</Item><ns:Items/></ns:Items>";
+
+        // when
+        var elements = scan(document, "Items", "Item");
+
+        // then
+        assertThat(elements).containsExactly("<ns:Item>a</ns:Item>", "<Item>b</Item>");
+    }
+
+    @Test
+    void reportPositionsInBytes() {
+        // given
+        String document = "<Items><Item>één</Item><Item>📚</Item></Items>";
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        var elements = ElementBoundaries.scan(ByteBuffer.wrap(bytes), List.of("Items", "Item"));
+
+        // then
+        assertThat(elements.size()).isEqualTo(2);
+        assertThat(new String(bytes, (int) elements.start(1), (int) (elements.end(1) - elements.start(1)), StandardCharsets.UTF_8))
+                .isEqualTo("<Item>📚</Item>");
+    }
+
+    @Test
+    void scanAcrossBlocksOfAStream() throws IOException {
+        // given
+        var document = new StringBuilder("<Items>");
+        for (int i = 0; i < 20_000; i++) {
+            document.append("<Item id=\"").append(i).append("\"><!-- > --><Value>").append(i).append("</Value></Item>");
+        }
+        document.append("</Items>");
+        byte[] bytes = document.toString().getBytes(StandardCharsets.UTF_8);
+
+        // when
+        var elements = ElementBoundaries.scan(new ByteArrayInputStream(bytes), List.of("Items", "Item"));
+
+        // then
+        assertThat(elements.size()).isEqualTo(20_000);
+        assertThat(new String(bytes, (int) elements.start(12_345), (int) (elements.end(12_345) - elements.start(12_345)), StandardCharsets.UTF_8))
+                .isEqualTo("<Item id=\"12345\"><!-- > --><Value>12345</Value></Item>");
+    }
+
+    @Test
+    void ignoreMarkupInsideCDataAndAttributeValues_whenSplitAcrossBlocks() throws IOException {
+        String item = "<Item a=\"</Item>\" b='>'><![CDATA[</Item><Item> ]> ]]]><Value>></Value></Item>";
+        // moves the item over the end of the first block, splitting it at every one of its bytes
+        for (int split = 0; split <= item.length(); split++) {
+            // given
+            int blockSize = 1 << 16;
+            String document = "<Items>" + " ".repeat(blockSize - "<Items>".length() - split) + item + "<Item/></Items>";
+            byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+            var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+            // when
+            var fromStream = ElementBoundaries.scan(new ByteArrayInputStream(bytes), List.of("Items", "Item"));
+            var fromBuffer = ElementBoundaries.scan(buffer, List.of("Items", "Item"));
+
+            // then
+            for (var elements : List.of(fromStream, fromBuffer)) {
+                assertThat(elements.size()).as("split at %d", split).isEqualTo(2);
+                assertThat(elements.start(0)).as("split at %d", split).isEqualTo(blockSize - split);
+                assertThat(elements.end(0)).as("split at %d", split).isEqualTo(blockSize - split + item.length());
+            }
+        }
+    }
+
+    @Test
+    void scanFromThePositionOfADirectBuffer() {
+        // given
+        byte[] bytes = "skipped<Items><Item>a</Item></Items>".getBytes(StandardCharsets.UTF_8);
+        var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(7);
+
+        // when
+        var elements = ElementBoundaries.scan(buffer, List.of("Items", "Item"));
+
+        // then
+        assertThat(elements.size()).isEqualTo(1);
+        assertThat(elements.start(0)).isEqualTo(7);
+        assertThat(elements.end(0)).isEqualTo(21);
+        assertThat(buffer.position()).isEqualTo(7);
+    }
+
+    @Test
+    void failWhenTheDocumentEndsBeforeAnElementIsClosed() {
+        assertThatThrownBy(() -> scan("<Items><Item>a</Item><Item>", "Items", "Item"))
+                .isInstanceOf(XmlParsingException.class)
+                .hasMessage("Document ended before element was closed");
+    }
+
+    private static List<String> scan(String document, String... path) {
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        var elements = ElementBoundaries.scan(ByteBuffer.wrap(bytes), List.of(path));
+        var found = new ArrayList<String>();
+        for (int i = 0; i < elements.size(); i++) {
+            found.add(new String(bytes, (int) elements.start(i), (int) (elements.end(i) - elements.start(i)), StandardCharsets.UTF_8));
+        }
+        return found;
+    }
+}
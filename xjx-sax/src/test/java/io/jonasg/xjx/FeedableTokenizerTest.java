@@ -0,0 +1,201 @@
+package io.jonasg.xjx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.FeedableTokenizer.Status;
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+class FeedableTokenizerTest {
+
+    private static final String DOCUMENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <catalog xmlns:bk="urn:bk.example.com">
+                <!-- a comment with <markup> -->
+                <bk:book id="b-1" title='één &amp; € > 📚' isbn="978"/>
+                <book id="b-2">
+                    <title>Ünïcödé 📚 title</title>
+                    <summary><![CDATA[<p>cdata & more</p>]]></summary>
+                </book>
+            </catalog>
+            """;
+
+    @Test
+    void shouldReportTheSameTokensAsTheTokenizer_wheneverTheDocumentIsSplit() {
+        // given
+        byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+        var expected = tokenize(DOCUMENT);
+
+        for (int split = 0; split <= bytes.length; split++) {
+            // when
+            var tokens = new ArrayList<Token<?>>();
+            var tokenizer = new FeedableTokenizer(tokens::add);
+            tokenizer.feed(ByteBuffer.wrap(bytes, 0, split));
+            tokenizer.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+            var status = tokenizer.endOfInput();
+
+            // then
+            assertThat(tokens).as("split at %d", split).isEqualTo(expected);
+            assertThat(status).isEqualTo(Status.END_OF_DOCUMENT);
+        }
+    }
+
+    @Test
+    void shouldReportTheSameTokensAsTheTokenizer_whenFedOneByteAtATime() {
+        // given
+        byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+        var tokens = new ArrayList<Token<?>>();
+        var tokenizer = new FeedableTokenizer(tokens::add);
+
+        // when
+        for (byte b : bytes) {
+            assertThat(tokenizer.feed(ByteBuffer.wrap(new byte[]{b}))).isEqualTo(Status.NEED_MORE_INPUT);
+        }
+        var status = tokenizer.endOfInput();
+
+        // then
+        assertThat(tokens).isEqualTo(tokenize(DOCUMENT));
+        assertThat(status).isEqualTo(Status.END_OF_DOCUMENT);
+    }
+
+    @Test
+    void shouldReportCompleteTokensOnly_untilMoreInputIsFed() {
+        // given
+        var tokens = new ArrayList<Token<?>>();
+        var tokenizer = new FeedableTokenizer(tokens::add);
+
+        // when
+        var status = tokenizer.feed(utf8("<a><b attr=\"va"));
+
+        // then
+        assertThat(status).isEqualTo(Status.NEED_MORE_INPUT);
+        assertThat(tokens).containsExactly(new Token<>(Token.Type.START_TAG, new StartTag("a")));
+
+        // when
+        tokenizer.feed(utf8("lue\">text</b></a>"));
+
+        // then
+        assertThat(tokens).containsExactly(
+                new Token<>(Token.Type.START_TAG, new StartTag("a")),
+                new Token<>(Token.Type.START_TAG, new StartTag("b", attributes("attr", "value"))),
+                new Token<>(Token.Type.CHARACTER_DATA, "text"),
+                new Token<>(Token.Type.END_TAG, new EndTag(null, "b")),
+                new Token<>(Token.Type.END_TAG, new EndTag(null, "a")));
+    }
+
+    @Test
+    void shouldTokenizeADocumentFedInManyBuffers() {
+        // given
+        var tokens = new ArrayList<Token<?>>();
+        var tokenizer = new FeedableTokenizer(tokens::add);
+        var item = "<item><name>" + "x".repeat(100) + "</name></item>";
+
+        // when
+        tokenizer.feed(utf8("<items>"));
+        for (int i = 0; i < 10_000; i++) {
+            tokenizer.feed(utf8(item));
+        }
+        tokenizer.feed(utf8("</items>"));
+        var status = tokenizer.endOfInput();
+
+        // then
+        assertThat(tokens).hasSize(2 + 10_000 * 5);
+        assertThat(status).isEqualTo(Status.END_OF_DOCUMENT);
+    }
+
+    @Test
+    void shouldOnlyScanTheNewInput_whenALongTokenIsFedInSmallBuffers() {
+        // given
+        var content = "text ] ]] ]> - -- -> ".repeat(50_000);
+        var document = "<a>" + content + "<![CDATA[" + content + "]]><!--" + content + "--></a>";
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        var tokens = new ArrayList<Token<?>>();
+        var tokenizer = new FeedableTokenizer(tokens::add);
+
+        // when
+        // rescanning every token from its start on each feed takes minutes rather than milliseconds
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            for (int offset = 0; offset < bytes.length; offset += 16) {
+                tokenizer.feed(ByteBuffer.wrap(bytes, offset, Math.min(16, bytes.length - offset)));
+            }
+            tokenizer.endOfInput();
+        });
+
+        // then
+        assertThat(tokens).isEqualTo(tokenize(document));
+    }
+
+    @Test
+    void shouldIgnoreFurtherInput_onceTheEmitterStops() {
+        // given
+        var tokens = new ArrayList<Token<?>>();
+        var tokenizer = new FeedableTokenizer(new TokenEmitter() {
+            @Override
+            public void emit(Token<?> token) {
+                tokens.add(token);
+            }
+
+            @Override
+            public boolean stopped() {
+                return tokens.size() == 2;
+            }
+        });
+
+        // when
+        var status = tokenizer.feed(utf8("<a><b>text</b>"));
+
+        // then
+        assertThat(status).isEqualTo(Status.STOPPED);
+        assertThat(tokenizer.feed(utf8("</a>"))).isEqualTo(Status.STOPPED);
+        assertThat(tokens).hasSize(2);
+    }
+
+    @Test
+    void shouldFail_whenTheInputEndsWithinAToken() {
+        // given
+        var tokenizer = new FeedableTokenizer(token -> {
+        });
+        tokenizer.feed(utf8("<a><![CDATA[never closed"));
+
+        // when / then
+        assertThatThrownBy(tokenizer::endOfInput).isInstanceOf(XmlParsingException.class);
+    }
+
+    @Test
+    void shouldNotAcceptInput_afterItsEnd() {
+        // given
+        var tokenizer = new FeedableTokenizer(token -> {
+        });
+        tokenizer.feed(utf8("<a/>"));
+        tokenizer.endOfInput();
+
+        // when / then
+        assertThatThrownBy(() -> tokenizer.feed(utf8("<b/>"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Token<?>> tokenize(String document) {
+        return new Tokenizer().tokenize(new StringReader(document)).toList();
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Attributes attributes(String... namesAndValues) {
+        var attributes = new Attributes();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            attributes.add(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,74 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedChunksTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDecodeMultiByteSequences_splitByChunkBoundaries() throws IOException {
+        // given
+        var text = "<a>één € 📚</a>".repeat(10);
+        var file = Files.writeString(directory.resolve("doc.xml"), text);
+
+        for (int chunkSize = 1; chunkSize <= 5; chunkSize++) {
+            // when
+            var read = new StringBuilder();
+            try (var chunks = new MappedChunks(FileChannel.open(file, StandardOpenOption.READ), chunkSize);
+                 var reader = new Utf8Reader(chunks)) {
+                char[] chars = new char[7];
+                int count;
+                while ((count = reader.read(chars, 0, chars.length)) != -1) {
+                    read.append(chars, 0, count);
+                }
+            }
+
+            // then
+            Assertions.assertThat(read.toString()).as("chunk size %d", chunkSize).isEqualTo(text);
+        }
+    }
+
+    @Test
+    void shouldStartTheNextChunk_withTheUnreadBytes() throws IOException {
+        // given
+        var file = Files.write(directory.resolve("doc.bin"), new byte[]{1, 2, 3, 4, 5, 6});
+
+        try (var chunks = new MappedChunks(FileChannel.open(file, StandardOpenOption.READ), 4)) {
+            // when
+            var first = chunks.next(0);
+            var second = chunks.next(1);
+            var end = chunks.next(0);
+
+            // then
+            Assertions.assertThat(first.remaining()).isEqualTo(4);
+            Assertions.assertThat(second.get(0)).isEqualTo((byte) 4);
+            Assertions.assertThat(second.remaining()).isEqualTo(3);
+            Assertions.assertThat(end).isNull();
+        }
+    }
+
+    @Test
+    void shouldReadEmptyFile() throws IOException {
+        // given
+        var file = Files.writeString(directory.resolve("empty.xml"), "");
+
+        // when
+        int read;
+        try (var chunks = new MappedChunks(file); var reader = new Utf8Reader(chunks)) {
+            read = reader.read(new char[8], 0, 8);
+        }
+
+        // then
+        Assertions.assertThat(read).isEqualTo(-1);
+    }
+}
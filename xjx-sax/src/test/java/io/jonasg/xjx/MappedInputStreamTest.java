@@ -0,0 +1,69 @@
+package io.jonasg.xjx;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedInputStreamTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadWholeFile_acrossChunkBoundaries() throws IOException {
+        // given
+        var text = "<a>één € 📚</a>".repeat(10);
+        var file = Files.writeString(directory.resolve("doc.xml"), text);
+
+        // when
+        String read;
+        try (var inputStream = new MappedInputStream(FileChannel.open(file, StandardOpenOption.READ), 5)) {
+            read = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        Assertions.assertThat(read).isEqualTo(text);
+    }
+
+    @Test
+    void shouldCarryMultiByteSequences_splitByChunkBoundaries() throws IOException {
+        // given
+        var text = "<a>" + "📚".repeat(7) + "</a>";
+        var file = Files.writeString(directory.resolve("doc.xml"), text);
+
+        // when
+        var read = new StringBuilder();
+        try (var reader = new Utf8Reader(new MappedInputStream(FileChannel.open(file, StandardOpenOption.READ), 3))) {
+            char[] chars = new char[4];
+            int count;
+            while ((count = reader.read(chars, 0, chars.length)) != -1) {
+                read.append(chars, 0, count);
+            }
+        }
+
+        // then
+        Assertions.assertThat(read.toString()).isEqualTo(text);
+    }
+
+    @Test
+    void shouldReadEmptyFile() throws IOException {
+        // given
+        var file = Files.writeString(directory.resolve("empty.xml"), "");
+
+        // when
+        int read;
+        try (var inputStream = new MappedInputStream(file)) {
+            read = inputStream.read();
+        }
+
+        // then
+        Assertions.assertThat(read).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,89 @@
+package io.jonasg.xjx;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SymbolTableTest {
+
+    @Test
+    void shouldResolveTheSameName_toTheSameInstance() {
+        // given
+        var symbolTable = new SymbolTable();
+        char[] buffer = "<Item><Item>".toCharArray();
+
+        // when
+        var first = symbolTable.lookup(buffer, 1, 5);
+        var second = symbolTable.lookup(buffer, 7, 11);
+
+        // then
+        Assertions.assertThat(first.qualifiedName()).isEqualTo("Item");
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(symbolTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSplitNamespace_intoCanonicalNames() {
+        // given
+        var symbolTable = new SymbolTable();
+
+        // when
+        var prefixed = symbolTable.lookup("bk:Item");
+        var namespace = symbolTable.lookup("bk");
+        var name = symbolTable.lookup("Item");
+
+        // then
+        Assertions.assertThat(prefixed.namespace()).isEqualTo("bk").isSameAs(namespace.qualifiedName());
+        Assertions.assertThat(prefixed.name()).isEqualTo("Item").isSameAs(name.qualifiedName());
+        Assertions.assertThat(name.namespace()).isNull();
+    }
+
+    @Test
+    void shouldKeepResolvingNames_whenFull() {
+        // given
+        var symbolTable = new SymbolTable(2);
+        symbolTable.lookup("a");
+        symbolTable.lookup("b");
+
+        // when
+        var name = symbolTable.lookup("c");
+
+        // then
+        Assertions.assertThat(name.qualifiedName()).isEqualTo("c");
+        Assertions.assertThat(symbolTable.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepEveryName_whenGrowing() {
+        // given
+        var symbolTable = new SymbolTable();
+        var names = new QualifiedName[1000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = symbolTable.lookup("name" + i);
+        }
+
+        // when / then
+        for (int i = 0; i < names.length; i++) {
+            Assertions.assertThat(symbolTable.lookup("name" + i)).isSameAs(names[i]);
+        }
+        Assertions.assertThat(symbolTable.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldKeepEveryName_whenAPrefixedNameGrowsTheTable() {
+        // given
+        var symbolTable = new SymbolTable();
+        for (int i = 0; i < 47; i++) {
+            symbolTable.lookup("name" + i);
+        }
+
+        // when
+        var prefixed = symbolTable.lookup("pa:lb");
+
+        // then
+        Assertions.assertThat(symbolTable.size()).isEqualTo(50);
+        Assertions.assertThat(symbolTable.lookup("pa:lb")).isSameAs(prefixed);
+        Assertions.assertThat(symbolTable.lookup("lb").qualifiedName()).isSameAs(prefixed.name());
+        Assertions.assertThat(symbolTable.lookup("pa").qualifiedName()).isSameAs(prefixed.namespace());
+        Assertions.assertThat(symbolTable.size()).isEqualTo(50);
+    }
+}
@@ -7,6 +7,7 @@ import static org.assertj.core.data.Index.atIndex;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.util.ArrayList;
 
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
@@ -143,4 +144,27 @@ class TokenizerIntegrationTest {
         // then
         assertThat(tokens.count()).isEqualTo(63);
     }
+
+    @Test
+    void shouldPushTheSameTokens_asTheStreamedTokens() {
+        // given
+        var tokenizer = new Tokenizer();
+        var document = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <bk:Books xmlns:bk="urn:bk.example.com">
+                    <!-- a comment -->
+                    <Book id="1" lang="en"><Title>Xjx</Title><Cover/></Book>
+                    <Book id="2"><Title><![CDATA[<Sax>]]></Title></Book>
+                </bk:Books>""";
+        var pushedTokens = new ArrayList<Token<?>>();
+
+        // when
+        tokenizer.tokenize(new StringReader(document), pushedTokens::add);
+        var streamedTokens = tokenizer.tokenize(new StringReader(document)).toList();
+
+        // then
+        assertThat(pushedTokens)
+                .hasSize(16)
+                .containsExactlyElementsOf(streamedTokens);
+    }
 }
@@ -0,0 +1,127 @@
+package io.jonasg.xjx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class Utf8ReaderTest {
+
+    private static final String TEXT = "<a>ascii één € 📚</a>";
+
+    @Test
+    void shouldDecodeMultiByteSequences() throws IOException {
+        // given
+        var reader = new Utf8Reader(TEXT.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        var read = readAll(reader, 8192);
+
+        // then
+        Assertions.assertThat(read).isEqualTo(TEXT);
+    }
+
+    @Test
+    void shouldDecodeSequencesSplitAcrossReads() throws IOException {
+        // given
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        InputStream oneByteAtATime = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        var reader = new Utf8Reader(oneByteAtATime);
+
+        // when
+        var read = readAll(reader, 1);
+
+        // then
+        Assertions.assertThat(read).isEqualTo(TEXT);
+    }
+
+    @Test
+    void shouldReturnDecodedCharacters_beforeWaitingForMoreInput() throws IOException {
+        // given
+        InputStream firstChunkOnly = new InputStream() {
+            private boolean read;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (read) {
+                    throw new IOException("next chunk has not arrived yet");
+                }
+                read = true;
+                b[off] = '<';
+                b[off + 1] = 'a';
+                b[off + 2] = '>';
+                return 3;
+            }
+        };
+        var reader = new Utf8Reader(firstChunkOnly);
+
+        // when
+        var chars = new char[100];
+        int read = reader.read(chars, 0, chars.length);
+
+        // then
+        Assertions.assertThat(new String(chars, 0, read)).isEqualTo("<a>");
+    }
+
+    @Test
+    void shouldReadDirectByteBuffers() throws IOException {
+        // given
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        // when
+        var read = readAll(new Utf8Reader(buffer), 3);
+
+        // then
+        Assertions.assertThat(read).isEqualTo(TEXT);
+    }
+
+    @Test
+    void shouldSkipByteOrderMark() throws IOException {
+        // given
+        var reader = new Utf8Reader(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '<', 'a', '/', '>'});
+
+        // when
+        var read = readAll(reader, 8192);
+
+        // then
+        Assertions.assertThat(read).isEqualTo("<a/>");
+    }
+
+    @Test
+    void shouldReplaceMalformedInput() throws IOException {
+        // given
+        var reader = new Utf8Reader(new byte[]{'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82});
+
+        // when
+        var read = readAll(reader, 8192);
+
+        // then
+        Assertions.assertThat(read).isEqualTo("a�b��");
+    }
+
+    private static String readAll(Reader reader, int chunkSize) throws IOException {
+        var read = new StringBuilder();
+        char[] chars = new char[chunkSize];
+        int count;
+        while ((count = reader.read(chars, 0, chars.length)) != -1) {
+            read.append(chars, 0, count);
+        }
+        return read.toString();
+    }
+}
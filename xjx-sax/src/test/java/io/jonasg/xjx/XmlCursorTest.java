@@ -0,0 +1,127 @@
+package io.jonasg.xjx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.XmlCursor.Event;
+import io.jonasg.xjx.scanners.XmlParsingException;
+
+class XmlCursorTest {
+
+    @Test
+    void shouldReportEvents_inDocumentOrder() {
+        // given
+        var cursor = new XmlCursor(new StringReader("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <bk:Books xmlns:bk="urn:bk.example.com">
+                    <!-- comments are not reported -->
+                    <Book id="1" lang="en">Xjx</Book>
+                    <Cover/>
+                </bk:Books>"""));
+
+        // when
+        var events = new ArrayList<Event>();
+        while (cursor.hasNext()) {
+            events.add(cursor.next());
+        }
+
+        // then
+        assertThat(events).containsExactly(
+                Event.START_TAG, Event.START_TAG, Event.CHARACTERS, Event.END_TAG,
+                Event.START_TAG, Event.END_TAG, Event.END_TAG, Event.END_DOCUMENT);
+    }
+
+    @Test
+    void shouldExposeTheValuesOfTheCurrentEvent() {
+        // given
+        var cursor = new XmlCursor(new StringReader("""
+                <bk:Books xmlns:bk="urn:bk.example.com"><Book id="1" lang="en">Xjx</Book></bk:Books>"""));
+
+        // when
+        cursor.next();
+        var rootNamespace = cursor.namespace();
+        var rootName = cursor.name();
+        cursor.next();
+
+        // then
+        assertThat(rootNamespace).isEqualTo("bk");
+        assertThat(rootName).isEqualTo("Books");
+        assertThat(cursor.name()).isEqualTo("Book");
+        assertThat(cursor.namespace()).isNull();
+        assertThat(cursor.attributeCount()).isEqualTo(2);
+        assertThat(cursor.attributeName(1)).isEqualTo("lang");
+        assertThat(cursor.attributeValue(1)).isEqualTo("en");
+        assertThat(cursor.depth()).isEqualTo(2);
+        assertThat(cursor.next()).isEqualTo(Event.CHARACTERS);
+        assertThat(cursor.text()).hasToString("Xjx");
+    }
+
+    @Test
+    void shouldFailToReadAttributes_whenNotPositionedOnAStartTag() {
+        // given
+        var cursor = new XmlCursor(new StringReader("<Books><Book id=\"1\"/></Books>"));
+        cursor.next();
+        cursor.next();
+
+        // when
+        cursor.next();
+
+        // then
+        assertThat(cursor.eventType()).isEqualTo(Event.END_TAG);
+        assertThat(cursor.attributeCount()).isZero();
+        assertThatThrownBy(() -> cursor.attributeName(0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cursor.attributeValue(0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldSkipElement_toItsMatchingEndTag() {
+        // given
+        var cursor = new XmlCursor(new StringReader("""
+                <Envelope>
+                    <Signature><Value><Value>abc</Value></Value><Empty/></Signature>
+                    <Body>content</Body>
+                </Envelope>"""));
+        cursor.next();
+        cursor.next();
+
+        // when
+        cursor.skipElement();
+
+        // then
+        assertThat(cursor.eventType()).isEqualTo(Event.END_TAG);
+        assertThat(cursor.name()).isEqualTo("Signature");
+        assertThat(cursor.next()).isEqualTo(Event.START_TAG);
+        assertThat(cursor.name()).isEqualTo("Body");
+        assertThat(cursor.depth()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFailToSkipElement_whenNotPositionedOnAStartTag() {
+        // given
+        var cursor = new XmlCursor(new StringReader("<a>text</a>"));
+        cursor.next();
+        cursor.next();
+
+        // when / then
+        assertThatThrownBy(cursor::skipElement)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFailToSkipElement_whenDocumentEndsBeforeItIsClosed() {
+        // given
+        var cursor = new XmlCursor(new StringReader("<a><b>text</b>"));
+        cursor.next();
+
+        // when / then
+        assertThatThrownBy(cursor::skipElement)
+                .isInstanceOf(XmlParsingException.class);
+    }
+}
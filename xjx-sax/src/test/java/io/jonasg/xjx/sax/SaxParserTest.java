@@ -2,6 +2,8 @@ package io.jonasg.xjx.sax;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -307,6 +309,193 @@ class SaxParserTest {
                     .hasSize(2)
                     .contains("dog", "fish");
         }
+
+        @Test
+        void onCharacterDataAsCharSequence() {
+            // given
+            var parser = new SaxParser();
+            var xmlDocument = new BufferedReader(new StringReader("""
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <animals>
+                        <animal>dog</animal>
+                        <animal><![CDATA[<fish>]]></animal>
+                    </animals>
+                    """));
+
+            // when
+            var actualCharacters = new ArrayList<>();
+            parser.parse(xmlDocument, new TestCharSequenceSaxHandler() {
+                @Override
+                public void characters(CharSequence data) {
+                    actualCharacters.add(data.toString());
+                }
+            });
+
+            // then
+            Assertions.assertThat(actualCharacters)
+                    .containsExactly("dog", "<fish>");
+        }
+    }
+
+    @Nested
+    class ShouldShareNames {
+        @Test
+        void betweenOccurrencesOfTheSameTag() {
+            // given
+            var parser = new SaxParser();
+            var xmlDocument = new StringReader("""
+                    <items><bk:item/><bk:item/></items>""");
+
+            // when
+            var names = new ArrayList<String>();
+            var namespaces = new ArrayList<String>();
+            parser.parse(xmlDocument, new TestSaxHandler() {
+                @Override
+                public void startTag(String namespace, String name, List<Attribute> attributes) {
+                    names.add(name);
+                    namespaces.add(namespace);
+                }
+            });
+
+            // then
+            Assertions.assertThat(names.get(2)).isSameAs(names.get(1));
+            Assertions.assertThat(namespaces.get(2)).isSameAs(namespaces.get(1));
+        }
+
+        @Test
+        void andReportTheNumberOfDistinctNamesInItsStats() {
+            // given
+            var parser = new SaxParser();
+
+            // when
+            parser.parse(new StringReader("<items><item id=\"1\"/><item id=\"2\"/></items>"), new TestSaxHandler());
+            parser.parse(new StringReader("<items><item id=\"3\"/></items>"), new TestSaxHandler());
+
+            // then
+            Assertions.assertThat(parser.stats().symbolTableSize()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class ShouldReuseBuffers {
+        @Test
+        void betweenConsecutiveDocuments() {
+            // given
+            var parser = new SaxParser();
+            parser.parse(new StringReader("<long>" + "x".repeat(10_000) + "</long>"), new TestSaxHandler());
+
+            // when
+            var characters = new ArrayList<String>();
+            parser.parse(new StringReader("<short>y</short>"), new TestSaxHandler() {
+                @Override
+                public void characters(String data) {
+                    characters.add(data);
+                }
+            });
+
+            // then
+            Assertions.assertThat(characters).containsExactly("y");
+        }
+
+        @Test
+        void exceptForDocumentsParsedWhileParsingAnother() {
+            // given
+            var parser = new SaxParser();
+            var outerNames = new ArrayList<String>();
+            var innerNames = new ArrayList<String>();
+
+            // when
+            parser.parse(new StringReader("<outer><first/><second/></outer>"), new TestSaxHandler() {
+                @Override
+                public void startTag(String namespace, String name, List<Attribute> attributes) {
+                    outerNames.add(name);
+                    if (name.equals("first")) {
+                        parser.parse(new StringReader("<inner><nested/></inner>"), new TestSaxHandler() {
+                            @Override
+                            public void startTag(String namespace, String name, List<Attribute> attributes) {
+                                innerNames.add(name);
+                            }
+                        });
+                    }
+                }
+            });
+
+            // then
+            Assertions.assertThat(outerNames).containsExactly("outer", "first", "second");
+            Assertions.assertThat(innerNames).containsExactly("inner", "nested");
+        }
+    }
+
+    @Nested
+    class ShouldSkipElements {
+        @Test
+        void whenRequestedByTheHandler() {
+            // given
+            var parser = new SaxParser();
+            var xmlDocument = new StringReader("""
+                    <Envelope><Signature><Value>abc</Value><Empty/></Signature><Body>content</Body></Envelope>""");
+
+            // when
+            var events = new ArrayList<String>();
+            parser.parse(xmlDocument, new TestControllableSaxHandler() {
+                @Override
+                public void startTag(String namespace, String name, List<Attribute> attributes) {
+                    events.add("<" + name);
+                    if (name.equals("Signature")) {
+                        parserControl.skipElement();
+                    }
+                }
+
+                @Override
+                public void endTag(String namespace, String name) {
+                    events.add(name + ">");
+                }
+
+                @Override
+                public void characters(String data) {
+                    events.add(data);
+                }
+            });
+
+            // then
+            Assertions.assertThat(events)
+                    .containsExactly("<Envelope", "<Signature", "Signature>", "<Body", "content", "Body>", "Envelope>");
+        }
+    }
+
+    @Nested
+    class ShouldFailWithAnUncheckedIOException {
+        @Test
+        void whenTheFileCanNotBeRead() {
+            // given
+            var parser = new SaxParser();
+            var file = Path.of("does-not-exist.xml");
+
+            // when / then
+            Assertions.assertThatThrownBy(() -> parser.parse(file, new TestSaxHandler()))
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasMessageContaining("does-not-exist.xml");
+        }
+    }
+
+    abstract static class TestControllableSaxHandler extends TestSaxHandler implements ControllableSaxHandler {
+        ParserControl parserControl;
+
+        @Override
+        public void parserControl(ParserControl parserControl) {
+            this.parserControl = parserControl;
+        }
+    }
+
+    static class TestCharSequenceSaxHandler extends TestSaxHandler implements CharSequenceSaxHandler {
+        @Override
+        public void characters(CharSequence data) {
+        }
+
+        @Override
+        public void characters(String data) {
+            characters((CharSequence) data);
+        }
     }
 
     record ActualEndTag(String namespace, String name) {
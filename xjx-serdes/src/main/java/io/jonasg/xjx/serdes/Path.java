@@ -65,6 +65,10 @@ public class Path implements Iterable<Section> {
         return sections.getFirst();
     }
 
+    public String getAttribute() {
+        return attribute;
+    }
+
     public int size() {
         return sections.size();
     }
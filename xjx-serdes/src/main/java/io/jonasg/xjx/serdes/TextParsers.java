@@ -0,0 +1,314 @@
+package io.jonasg.xjx.serdes;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Parsers reading values straight from a {@link CharSequence}, without materializing a String first.
+ * <p>
+ * Each parser handles the common layout of its type itself, plain decimal numbers and fixed-layout ISO-8601
+ * dates and times, and falls back to the JDK parser for anything else. Results and failures are the same as those
+ * of the JDK parser.
+ */
+public final class TextParsers {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int[] NANO_SCALES = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private TextParsers() {
+    }
+
+    public static int parseInt(CharSequence text) {
+        int length = text.length();
+        if (length == 0 || length > 10) {
+            return Integer.parseInt(text, 0, length, 10);
+        }
+        long value = parseDigits(text, length);
+        if (value == Long.MIN_VALUE || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return Integer.parseInt(text, 0, length, 10);
+        }
+        return (int) value;
+    }
+
+    public static long parseLong(CharSequence text) {
+        int length = text.length();
+        if (length == 0 || length > 19) {
+            return Long.parseLong(text, 0, length, 10);
+        }
+        long value = parseDigits(text, length);
+        if (value == Long.MIN_VALUE) {
+            return Long.parseLong(text, 0, length, 10);
+        }
+        return value;
+    }
+
+    /**
+     * Parses an optionally signed run of at most 18 digits.
+     * @return the value or {@link Long#MIN_VALUE} when the text is not such a run
+     */
+    private static long parseDigits(CharSequence text, int length) {
+        int i = 0;
+        boolean negative = false;
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+        }
+        if (i == length || length - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decimals without exponent of at most 15 significant digits are computed exactly from their digits,
+     * every other notation is left to {@link Double#parseDouble(String)}.
+     */
+    public static double parseDouble(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i = 1;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 15) {
+                    return Double.parseDouble(text.toString());
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                return Double.parseDouble(text.toString());
+            }
+        }
+        if (digits == 0) {
+            return Double.parseDouble(text.toString());
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decimals without exponent of at most 18 digits are built from their unscaled value,
+     * every other notation is left to {@link BigDecimal#BigDecimal(String)}.
+     */
+    public static BigDecimal parseBigDecimal(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i = 1;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 18) {
+                    return new BigDecimal(text.toString());
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return new BigDecimal(text.toString());
+            }
+        }
+        if (digits == 0) {
+            return new BigDecimal(text.toString());
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    /**
+     * Parses {@code true} and {@code yes}, ignoring case, and {@code 1} as true, any other text as false.
+     */
+    public static boolean parseBoolean(CharSequence text) {
+        return equalsIgnoreCase(text, "true") || equalsIgnoreCase(text, "yes") || (text.length() == 1 && text.charAt(0) == '1');
+    }
+
+    /**
+     * Compares like {@link String#equalsIgnoreCase(String)} does.
+     */
+    private static boolean equalsIgnoreCase(CharSequence text, String expected) {
+        if (text.length() != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            char upper = Character.toUpperCase(text.charAt(i));
+            char expectedUpper = Character.toUpperCase(expected.charAt(i));
+            if (upper != expectedUpper && Character.toLowerCase(upper) != Character.toLowerCase(expectedUpper)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd}, other layouts are left to {@link LocalDate#parse(CharSequence)}.
+     */
+    public static LocalDate parseLocalDate(CharSequence text) {
+        if (text.length() == 10) {
+            LocalDate date = localDate(text);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(text);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]}, other layouts are left to
+     * {@link LocalDateTime#parse(CharSequence)}.
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text) {
+        LocalDateTime dateTime = localDateTime(text, text.length());
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return LocalDateTime.parse(text);
+    }
+
+    /**
+     * Parses a fixed-layout local date time followed by {@code Z} or a {@code +HH:MM} offset, other layouts,
+     * such as those including a region id, are left to {@link ZonedDateTime#parse(CharSequence)}.
+     */
+    public static ZonedDateTime parseZonedDateTime(CharSequence text) {
+        int length = text.length();
+        if (length > 16) {
+            if (text.charAt(length - 1) == 'Z') {
+                LocalDateTime dateTime = localDateTime(text, length - 1);
+                if (dateTime != null) {
+                    return ZonedDateTime.of(dateTime, ZoneOffset.UTC);
+                }
+            } else if (length > 22 && text.charAt(length - 3) == ':') {
+                char sign = text.charAt(length - 6);
+                int hours = twoDigits(text, length - 5);
+                int minutes = twoDigits(text, length - 2);
+                if ((sign == '+' || sign == '-') && hours >= 0 && minutes >= 0 && hours <= 18 && minutes <= 59) {
+                    LocalDateTime dateTime = localDateTime(text, length - 6);
+                    if (dateTime != null) {
+                        int direction = sign == '-' ? -1 : 1;
+                        try {
+                            return ZonedDateTime.of(dateTime, ZoneOffset.ofHoursMinutes(direction * hours, direction * minutes));
+                        } catch (DateTimeException e) {
+                            // out of range offset, let the JDK report it
+                        }
+                    }
+                }
+            }
+        }
+        return ZonedDateTime.parse(text);
+    }
+
+    /**
+     * @return the local date time in the first {@code end} characters or null when they do not follow the fixed layout
+     */
+    private static LocalDateTime localDateTime(CharSequence text, int end) {
+        if (end < 16 || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        LocalDate date = localDate(text);
+        int hour = twoDigits(text, 11);
+        int minute = twoDigits(text, 14);
+        if (date == null || hour < 0 || minute < 0) {
+            return null;
+        }
+        int second = 0;
+        int nano = 0;
+        if (end > 16) {
+            if (end < 19 || text.charAt(16) != ':') {
+                return null;
+            }
+            second = twoDigits(text, 17);
+            if (second < 0) {
+                return null;
+            }
+            if (end > 19) {
+                int fractionDigits = end - 20;
+                if (text.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                    return null;
+                }
+                for (int i = 20; i < end; i++) {
+                    int digit = text.charAt(i) - '0';
+                    if (digit < 0 || digit > 9) {
+                        return null;
+                    }
+                    nano = nano * 10 + digit;
+                }
+                nano *= NANO_SCALES[fractionDigits - 1];
+            }
+        }
+        try {
+            return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the date in the first 10 characters or null when they are not a valid {@code yyyy-MM-dd} date
+     */
+    private static LocalDate localDate(CharSequence text) {
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int century = twoDigits(text, 0);
+        int yearOfCentury = twoDigits(text, 2);
+        int month = twoDigits(text, 5);
+        int day = twoDigits(text, 8);
+        if (century < 0 || yearOfCentury < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(century * 100 + yearOfCentury, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the value of the two digits at the given index or -1 when they are not both digits
+     */
+    private static int twoDigits(CharSequence text, int index) {
+        int tens = text.charAt(index) - '0';
+        int units = text.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+}
@@ -7,8 +7,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -33,68 +35,72 @@ public final class TypeMappers {
         TYPES.add(LocalDate.class);
     }
 
-    public static Function<Object, Object> forType(Class<?> type, XjxConfiguration configuration) {
-        Function<Object, Object> mapper = Function.identity();
-        if (type.equals(String.class)) {
-            mapper = String::valueOf;
-        }
-		if (INTEGER_TYPES.contains(type)) {
-            mapper = value -> Integer.parseInt(String.valueOf(value));
-        }
-        if (LONG_TYPES.contains(type)) {
-            mapper = value -> Long.parseLong(String.valueOf(value));
-        }
-        if (type.equals(BigDecimal.class)) {
-            mapper = value -> new BigDecimal(String.valueOf(value));
-        }
-        if (DOUBLE_TYPES.contains(type)) {
-            mapper = value -> Double.valueOf(String.valueOf(value));
-        }
-        if (CHAR_TYPES.contains(type)) {
-            mapper = value -> String.valueOf(value).charAt(0);
+    private static final Map<Class<?>, Function<Object, Object>> MAPPERS;
+
+    /**
+     * Enum constants by name, resolved once per enum type.
+     */
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return Map.copyOf(constants);
         }
-        if (BOOLEAN_TYPES.contains(type)) {
-            mapper = value -> {
-                String lowered = String.valueOf(value).toLowerCase();
-                if (lowered.equals("true") || lowered.equals("yes") || lowered.equals("1")) {
-                    return true;
+    };
+
+    static {
+        Map<Class<?>, Function<Object, Object>> mappers = new HashMap<>();
+        mappers.put(String.class, String::valueOf);
+        Function<Object, Object> integerMapper = value -> TextParsers.parseInt(text(value));
+        INTEGER_TYPES.forEach(type -> mappers.put(type, integerMapper));
+        Function<Object, Object> longMapper = value -> TextParsers.parseLong(text(value));
+        LONG_TYPES.forEach(type -> mappers.put(type, longMapper));
+        mappers.put(BigDecimal.class, value -> TextParsers.parseBigDecimal(text(value)));
+        Function<Object, Object> doubleMapper = value -> TextParsers.parseDouble(text(value));
+        DOUBLE_TYPES.forEach(type -> mappers.put(type, doubleMapper));
+        Function<Object, Object> charMapper = value -> text(value).charAt(0);
+        CHAR_TYPES.forEach(type -> mappers.put(type, charMapper));
+        Function<Object, Object> booleanMapper = value -> TextParsers.parseBoolean(text(value));
+        BOOLEAN_TYPES.forEach(type -> mappers.put(type, booleanMapper));
+        mappers.put(LocalDate.class, value -> TextParsers.parseLocalDate(text(value)));
+        mappers.put(LocalDateTime.class, value -> TextParsers.parseLocalDateTime(text(value)));
+        mappers.put(ZonedDateTime.class, value -> TextParsers.parseZonedDateTime(text(value)));
+        MAPPERS = Map.copyOf(mappers);
+    }
+
+    /**
+     * @return true when the mapper of the given type only reads a text value while mapping it, it never holds on to
+     * the {@link CharSequence} it is handed
+     */
+    public static boolean readsTextInPlace(Class<?> type) {
+        return type.isEnum() || MAPPERS.containsKey(type);
+    }
+
+    /**
+     * Returns the mapper converting a tag or attribute value into the given type.
+     * Mappers are immutable and meant to be resolved once per field rather than once per value.
+     */
+    public static Function<Object, Object> forType(Class<?> type, XjxConfiguration configuration) {
+        if (type.isEnum()) {
+            Map<String, Object> constants = ENUM_CONSTANTS.get(type);
+            return value -> {
+                Object enumValue = constants.get(text(value).toString());
+                if (enumValue == null && configuration.failOnUnknownEnumValue()) {
+                    throw new XjxDeserializationException("Cannot map value '" + value + "' to enum " + type.getSimpleName());
                 }
-                return false;
+                return enumValue;
             };
         }
-        if (type.equals(LocalDate.class)) {
-            mapper = value -> LocalDate.parse(String.valueOf(value));
-        }
-        if (type.equals(LocalDateTime.class)) {
-            mapper = value -> LocalDateTime.parse(String.valueOf(value));
-        }
-        if (type.equals(ZonedDateTime.class)) {
-            mapper = value -> ZonedDateTime.parse(String.valueOf(value));
-        }
-        if (type.isEnum()) {
-			mapper = value -> {
-				Object enumValue = toEnum(type, String.valueOf(value));
-				if (enumValue == null && configuration.failOnUnknownEnumValue()) {
-					throw new XjxDeserializationException("Cannot map value '" + value + "' to enum " + type.getSimpleName());
-				}
-				return enumValue;
-			};
-        }
-        return mapper;
+        return MAPPERS.getOrDefault(type, Function.identity());
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T extends Enum<T>> T toEnum(Class<?> type, String value) {
-        try {
-            T[] enumConstants = (T[]) type.getEnumConstants();
-            for (T constant : enumConstants) {
-                if (value.equals(constant.name())) {
-                    return constant;
-                }
-            }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-        return null;
+    /**
+     * @return the text of the value, a {@link CharSequence} such as the reused text of an element is read as is
+     */
+    private static CharSequence text(Object value) {
+        return value instanceof CharSequence text ? text : String.valueOf(value);
     }
 }
@@ -1,13 +1,43 @@
 package io.jonasg.xjx.serdes;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import io.jonasg.xjx.ElementBoundaries;
+import io.jonasg.xjx.MappedChunks;
+import io.jonasg.xjx.MappedInputStream;
+import io.jonasg.xjx.Utf8Reader;
+import io.jonasg.xjx.XmlCursor;
 import io.jonasg.xjx.sax.SaxParser;
 import io.jonasg.xjx.serdes.deserialize.config.ConfigurationBuilder;
+import io.jonasg.xjx.serdes.deserialize.ElementSpliterator;
+import io.jonasg.xjx.serdes.deserialize.ItemIterator;
+import io.jonasg.xjx.serdes.deserialize.ItemPublisher;
 import io.jonasg.xjx.serdes.deserialize.MapOf;
 import io.jonasg.xjx.serdes.deserialize.MapRootSaxHandler;
 import io.jonasg.xjx.serdes.deserialize.PathBasedSaxHandler;
@@ -19,9 +49,18 @@ import io.jonasg.xjx.serdes.serialize.XmlStringBuilder;
 
 /**
  * XjxSerdes provides functionality for serializing and deserializing objects to and from XML.
+ * <p>
+ * An instance is thread-safe and meant to be shared: the mapping of every type is built once and reused by all
+ * subsequent reads, while the state of a single read is kept per call.
  */
 public class XjxSerdes {
 
+    /**
+     * Number of batches a batch read is split into for every available processor, allowing the work to be balanced
+     * when some documents take longer than others.
+     */
+    private static final int BATCHES_PER_PROCESSOR = 4;
+
     private final SaxParser saxParser;
 
     private final PathWriterIndexFactory pathWriterIndexFactory;
@@ -83,6 +122,389 @@ public class XjxSerdes {
         return saxHandler.instance();
     }
 
+    /**
+     * Reads UTF-8 encoded XML data and deserializes it into an object of the specified class.
+     * The data is decoded while it is parsed, without first being copied into a {@link String}.
+     *
+     * @param data  The UTF-8 encoded XML data to read.
+     * @param clazz The class type to deserialize the XML data into.
+     * @param <T>   The generic type of the class.
+     * @return The deserialized object.
+     */
+    public <T> T read(byte[] data, Class<T> clazz) {
+        return read(new Utf8Reader(data), clazz);
+    }
+
+    /**
+     * Reads UTF-8 encoded XML data from an input stream and deserializes it into an object of the specified class.
+     *
+     * @param data  The input stream containing UTF-8 encoded XML data to read, it is not closed.
+     * @param clazz The class type to deserialize the XML data into.
+     * @param <T>   The generic type of the class.
+     * @return The deserialized object.
+     */
+    public <T> T read(InputStream data, Class<T> clazz) {
+        return read(new Utf8Reader(data), clazz);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded XML data of a buffer and deserializes it into an object of the specified class.
+     *
+     * @param data  The buffer containing UTF-8 encoded XML data to read.
+     * @param clazz The class type to deserialize the XML data into.
+     * @param <T>   The generic type of the class.
+     * @return The deserialized object.
+     */
+    public <T> T read(ByteBuffer data, Class<T> clazz) {
+        return read(new Utf8Reader(data), clazz);
+    }
+
+    /**
+     * Reads a UTF-8 encoded XML file and deserializes it into an object of the specified class.
+     * The file is memory-mapped in chunks that are decoded in place, allowing files larger than 2 GB to be read
+     * without copying them onto the heap.
+     *
+     * @param file  The path of the file containing UTF-8 encoded XML data to read.
+     * @param clazz The class type to deserialize the XML data into.
+     * @param <T>   The generic type of the class.
+     * @return The deserialized object.
+     * @throws UncheckedIOException when the file can not be read
+     */
+    public <T> T read(Path file, Class<T> clazz) {
+        PathBasedSaxHandler<T> saxHandler = new PathBasedSaxHandler<>((rootTag) -> pathWriterIndexFactory.createIndexForType(clazz, rootTag), this.configuration);
+        saxParser.parse(file, saxHandler);
+        return saxHandler.instance();
+    }
+
+    /**
+     * Lazily deserializes every element found at the given path, one element at a time as the stream is consumed.
+     * Only the item being deserialized is held in memory, which allows processing documents with any number of items
+     * in constant heap.
+     * <p>
+     * Each item is mapped with the item element as root tag, the mapping of the specified class hence starts
+     * at the item element.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * // <Feed><Items><Item><Name>a</Name></Item>...</Items></Feed>
+     * record Item(@Tag(path = "/Item/Name") String name) {}
+     * try (Stream<Item> items = new XjxSerdes().readStream(reader, "/Feed/Items/Item", Item.class)) {
+     *     items.forEach(item -> ...);
+     * }
+     * }</pre>
+     *
+     * @param data     The reader containing XML data to read, it is not closed.
+     * @param itemPath The absolute path of the elements to deserialize.
+     * @param clazz    The class type to deserialize each element into.
+     * @param <T>      The generic type of the class.
+     * @return A sequential stream of the deserialized elements, reading from the reader as it is consumed.
+     */
+    public <T> Stream<T> readStream(Reader data, String itemPath, Class<T> clazz) {
+        var iterator = itemIterator(data, io.jonasg.xjx.serdes.Path.parse(itemPath.trim()), clazz);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Publishes every element found at the given path as the UTF-8 encoded XML data is published, such as the
+     * body of an HTTP response arriving in chunks.
+     * <p>
+     * The data is parsed as its buffers arrive, without first being gathered into a whole document and without
+     * a thread waiting for it: every buffer is fed to the parser on the thread delivering it. Buffers are requested
+     * one at a time, and only while the subscriber has requested more items than were read so far.
+     * Elements are mapped like those of {@link #readStream(Reader, String, Class)}, with the item element as root tag.
+     * Errors of the data publisher and deserialization failures are signalled to the subscriber through
+     * {@link Flow.Subscriber#onError(Throwable)}, once the items read before them have been published.
+     *
+     * @param data     The publisher of the UTF-8 encoded XML data, subscribed to by every subscription.
+     * @param itemPath The absolute path of the elements to deserialize.
+     * @param clazz    The class type to deserialize each element into.
+     * @param <T>      The generic type of the class.
+     * @return A publisher of the deserialized elements in document order.
+     */
+    public <T> Flow.Publisher<T> publish(Flow.Publisher<ByteBuffer> data, String itemPath, Class<T> clazz) {
+        var path = io.jonasg.xjx.serdes.Path.parse(itemPath.trim());
+        return new ItemPublisher<>(data, path, (rootTag) -> pathWriterIndexFactory.createIndexForType(clazz, rootTag),
+                this.configuration);
+    }
+
+    private <T> ItemIterator<T> itemIterator(Reader data, io.jonasg.xjx.serdes.Path itemPath, Class<T> clazz) {
+        return new ItemIterator<>(new XmlCursor(data), itemPath,
+                (rootTag) -> pathWriterIndexFactory.createIndexForType(clazz, rootTag), this.configuration);
+    }
+
+    /**
+     * Deserializes every element found at the given path of a UTF-8 encoded XML file in parallel.
+     *
+     * @see #streamParallel(Path, String, Class)
+     */
+    public <T> List<T> readParallel(Path file, String itemPath, Class<T> clazz) {
+        try (Stream<T> items = streamParallel(file, itemPath, clazz)) {
+            return items.toList();
+        }
+    }
+
+    /**
+     * Deserializes every element found at the given path of a UTF-8 encoded XML file in parallel, meant for
+     * large documents holding many sibling records such as {@code <Items><Item>...</Item>...</Items>}.
+     * <p>
+     * The file is memory-mapped and first scanned for the boundaries of the elements, without tokenizing it.
+     * The elements are then split into chunks that are tokenized and deserialized on a fork-join pool,
+     * the common pool unless the terminal operation of the stream runs in another {@link ForkJoinPool}.
+     * Elements are mapped like those of {@link #readStream(Reader, String, Class)}, with the item element as root tag.
+     * <p>
+     * The scan is sequential and only pays off when the elements are deserialized on more than one core. When a
+     * single processor is available, the file is read sequentially like {@link #readStream(Reader, String, Class)}
+     * does instead, and the returned stream is sequential.
+     *
+     * @param file     The path of the file containing UTF-8 encoded XML data to read.
+     * @param itemPath The absolute path of the elements to deserialize.
+     * @param clazz    The class type to deserialize each element into.
+     * @param <T>      The generic type of the class.
+     * @return A parallel stream of the deserialized elements in document order, it must be closed to release the file.
+     * @throws UncheckedIOException when the file can not be read
+     */
+    public <T> Stream<T> streamParallel(Path file, String itemPath, Class<T> clazz) {
+        if (isSingleProcessor()) {
+            return streamSequential(file, itemPath, clazz);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            // not closed, as that would close the channel the elements are mapped from
+            var data = new MappedInputStream(channel, MappedInputStream.DEFAULT_CHUNK_SIZE);
+            var elements = ElementBoundaries.scan(data, sections(itemPath));
+            FileChannel mapped = channel;
+            ElementSpliterator.Document document = (position, size) -> map(mapped, file, position, size);
+            return StreamSupport.stream(new ElementSpliterator<>(elements, document, element -> read(element, clazz)), true)
+                    .onClose(() -> close(mapped, file));
+        } catch (IOException e) {
+            close(channel, file);
+            throw new UncheckedIOException("Failed to read " + file, e);
+        } catch (RuntimeException e) {
+            close(channel, file);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserializes every element found at the given path of the remaining UTF-8 encoded XML data of a buffer
+     * in parallel.
+     *
+     * @see #streamParallel(ByteBuffer, String, Class)
+     */
+    public <T> List<T> readParallel(ByteBuffer data, String itemPath, Class<T> clazz) {
+        return streamParallel(data, itemPath, clazz).toList();
+    }
+
+    /**
+     * Deserializes every element found at the given path of the remaining UTF-8 encoded XML data of a buffer
+     * in parallel. The position of the buffer is left untouched.
+     * When a single processor is available, the buffer is read sequentially instead.
+     *
+     * @see #streamParallel(Path, String, Class)
+     */
+    public <T> Stream<T> streamParallel(ByteBuffer data, String itemPath, Class<T> clazz) {
+        if (isSingleProcessor()) {
+            return readStream(new Utf8Reader(data.duplicate()), itemPath, clazz);
+        }
+        var elements = ElementBoundaries.scan(data, sections(itemPath));
+        int offset = data.position();
+        ElementSpliterator.Document document = (position, size) -> data.slice(offset + (int) position, (int) size);
+        return StreamSupport.stream(new ElementSpliterator<>(elements, document, element -> read(element, clazz)), true);
+    }
+
+    private <T> Stream<T> streamSequential(Path file, String itemPath, Class<T> clazz) {
+        try {
+            var data = new MappedChunks(file);
+            return readStream(new Utf8Reader(data), itemPath, clazz)
+                    .onClose(() -> {
+                        try {
+                            data.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Failed to close " + file, e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    private static boolean isSingleProcessor() {
+        return Runtime.getRuntime().availableProcessors() == 1;
+    }
+
+    private static List<String> sections(String itemPath) {
+        var path = io.jonasg.xjx.serdes.Path.parse(itemPath.trim());
+        var sections = new ArrayList<String>(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            sections.add(path.getSection(i).name());
+        }
+        return sections;
+    }
+
+    private static ByteBuffer map(FileChannel channel, Path file, long position, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    private static void close(FileChannel channel, Path file) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close " + file, e);
+        }
+    }
+
+    /**
+     * Deserializes independent XML documents into objects of the same class, spreading the work over the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #readAll(Collection, Class, Executor)
+     */
+    public <T> List<T> readAll(Collection<String> data, Class<T> clazz) {
+        return readAll(data, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes independent XML documents into objects of the same class, spreading the work over the given executor.
+     * <p>
+     * The documents are split into batches, each batch being read by a single task, all documents share the same
+     * mapping of the class and every worker thread reuses its own parser buffer.
+     *
+     * @param data     The XML documents to read.
+     * @param clazz    The class type to deserialize every document into.
+     * @param executor The executor running the batches, such as a {@link ForkJoinPool} or a virtual thread executor.
+     * @param <T>      The generic type of the class.
+     * @return The deserialized objects, in the order of the documents.
+     */
+    public <T> List<T> readAll(Collection<String> data, Class<T> clazz, Executor executor) {
+        return streamAll(data, clazz, executor).toList();
+    }
+
+    /**
+     * Deserializes independent UTF-8 encoded XML documents into objects of the same class,
+     * spreading the work over the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #readAll(Collection, Class, Executor)
+     */
+    public <T> List<T> readAllBytes(Collection<byte[]> data, Class<T> clazz) {
+        return readAllBytes(data, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes independent UTF-8 encoded XML documents into objects of the same class,
+     * spreading the work over the given executor.
+     *
+     * @see #readAll(Collection, Class, Executor)
+     */
+    public <T> List<T> readAllBytes(Collection<byte[]> data, Class<T> clazz, Executor executor) {
+        return streamAllBytes(data, clazz, executor).toList();
+    }
+
+    /**
+     * Deserializes independent XML documents into objects of the same class, spreading the work over the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #streamAll(Collection, Class, Executor)
+     */
+    public <T> Stream<T> streamAll(Collection<String> data, Class<T> clazz) {
+        return streamAll(data, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes independent XML documents into objects of the same class, spreading the work over the given executor.
+     * Every batch is submitted right away, the returned stream hands out the results in the order of the documents,
+     * waiting for the batch of the next result when it is not read yet.
+     * The first document failing to be read cancels the batches that did not complete yet, as does closing the stream.
+     * When the executor rejects a batch, the batches submitted before it are cancelled and the rejection is rethrown.
+     *
+     * @see #readAll(Collection, Class, Executor)
+     */
+    public <T> Stream<T> streamAll(Collection<String> data, Class<T> clazz, Executor executor) {
+        return readInBatches(data, document -> read(document, clazz), executor);
+    }
+
+    /**
+     * Deserializes independent UTF-8 encoded XML documents into objects of the same class,
+     * spreading the work over the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #streamAll(Collection, Class, Executor)
+     */
+    public <T> Stream<T> streamAllBytes(Collection<byte[]> data, Class<T> clazz) {
+        return streamAllBytes(data, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes independent UTF-8 encoded XML documents into objects of the same class,
+     * spreading the work over the given executor.
+     *
+     * @see #streamAll(Collection, Class, Executor)
+     */
+    public <T> Stream<T> streamAllBytes(Collection<byte[]> data, Class<T> clazz, Executor executor) {
+        return readInBatches(data, document -> read(document, clazz), executor);
+    }
+
+    private <D, T> Stream<T> readInBatches(Collection<D> data, Function<D, T> reader, Executor executor) {
+        List<D> documents = List.copyOf(data);
+        int batchSize = Math.max(1, documents.size() / (Runtime.getRuntime().availableProcessors() * BATCHES_PER_PROCESSOR));
+        List<CompletableFuture<List<T>>> batches = new ArrayList<>();
+        try {
+            for (int from = 0; from < documents.size(); from += batchSize) {
+                List<D> batch = documents.subList(from, Math.min(from + batchSize, documents.size()));
+                batches.add(CompletableFuture.supplyAsync(() -> batch.stream().map(reader).toList(), executor));
+            }
+        } catch (RuntimeException e) {
+            batches.forEach(batch -> batch.cancel(false));
+            throw e;
+        }
+        // a cancelled batch that has not started yet is never run
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (CompletableFuture<List<T>> batch : batches) {
+            batch.whenComplete((result, e) -> {
+                if (e != null && !(e instanceof CancellationException) && failure.compareAndSet(null, e)) {
+                    batches.forEach(other -> other.cancel(false));
+                }
+            });
+        }
+        return batches.stream()
+                .flatMap(batch -> join(batch, failure).stream())
+                .onClose(() -> batches.forEach(batch -> batch.cancel(false)));
+    }
+
+    /**
+     * Rethrows the failure of the batch, or the failure that cancelled it, as thrown by the reader.
+     */
+    private static <T> T join(CompletableFuture<T> future, AtomicReference<Throwable> failure) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            if (failure.get() == null) {
+                throw e;
+            }
+            throw rethrow(failure.get());
+        } catch (CompletionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof RuntimeException cause) {
+            return cause;
+        }
+        if (failure instanceof Error cause) {
+            throw cause;
+        }
+        return new CompletionException(failure);
+    }
 
     /**
      * Reads XML data and deserializes it into a map with specified key and value types.
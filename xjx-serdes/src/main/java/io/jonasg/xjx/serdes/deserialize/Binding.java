@@ -0,0 +1,65 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The state of a single read of a {@link PathWriterIndex}.
+ * <p>
+ * The index itself is immutable and shared between reads, every instance a read creates, such as the root
+ * or the collections being filled, lives in a slot of the binding instead. Slots are initialized the first time
+ * they are used.
+ */
+public class Binding {
+
+	private final Object[] slots;
+
+	private final Supplier<?>[] slotInitializers;
+
+	private final Map<Class<?>, Object> collectionCacheType = new HashMap<>();
+
+	private final BitSet writtenValueWriters;
+
+	private final int valueWriterCount;
+
+	private int writtenValueWriterCount;
+
+	Binding(Supplier<?>[] slotInitializers, int valueWriterCount) {
+		this.slotInitializers = slotInitializers;
+		this.slots = new Object[slotInitializers.length];
+		this.valueWriterCount = valueWriterCount;
+		this.writtenValueWriters = new BitSet(valueWriterCount);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T slot(int slot) {
+		Object value = slots[slot];
+		if (value == null) {
+			value = slotInitializers[slot].get();
+			slots[slot] = value;
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Records that the given writer wrote a value.
+	 * @return whether every writer with a value initializer of the index has written a value
+	 */
+	public boolean written(PathWriter pathWriter) {
+		int id = pathWriter.getValueWriterId();
+		if (id >= 0 && !writtenValueWriters.get(id)) {
+			writtenValueWriters.set(id);
+			writtenValueWriterCount++;
+		}
+		return writtenValueWriterCount == valueWriterCount;
+	}
+
+	/**
+	 * @return the instances of complex types currently being filled, by type
+	 */
+	public Map<Class<?>, Object> collectionCacheType() {
+		return collectionCacheType;
+	}
+}
@@ -0,0 +1,121 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.jonasg.xjx.ElementBoundaries;
+
+/**
+ * Deserializes the elements of a document found by {@link ElementBoundaries}, one element at a time.
+ * <p>
+ * The spliterator splits its elements in halves, allowing a parallel stream to deserialize them on a fork-join pool
+ * while keeping them in document order. Each element is complete on its own and is parsed independently of the
+ * others, the document is only accessed through regions spanning runs of consecutive elements, so that a memory-mapped
+ * document is never mapped as a whole.
+ * @param <T> the type the elements are deserialized into
+ */
+public class ElementSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Upper bound of the size of a region, unless a single element is larger.
+     */
+    private static final long MAX_REGION_SIZE = 1L << 26;
+
+    private final ElementBoundaries elements;
+
+    private final Document document;
+
+    private final Function<ByteBuffer, T> reader;
+
+    private final int fence;
+
+    private int index;
+
+    private ByteBuffer region;
+
+    private long regionStart;
+
+    private long regionEnd;
+
+    /**
+     * @param elements the elements to deserialize
+     * @param document the document the elements are read from
+     * @param reader deserializes the bytes of a single element
+     */
+    public ElementSpliterator(ElementBoundaries elements, Document document, Function<ByteBuffer, T> reader) {
+        this(elements, document, reader, 0, elements.size());
+    }
+
+    private ElementSpliterator(ElementBoundaries elements, Document document, Function<ByteBuffer, T> reader, int index, int fence) {
+        this.elements = elements;
+        this.document = document;
+        this.reader = reader;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= fence) {
+            return false;
+        }
+        long start = elements.start(index);
+        long end = elements.end(index);
+        if (region == null || start < regionStart || end > regionEnd) {
+            mapRegion();
+        }
+        var element = region.slice((int) (start - regionStart), (int) (end - start));
+        index++;
+        action.accept(reader.apply(element));
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        var prefix = new ElementSpliterator<>(elements, document, reader, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+
+    /**
+     * Maps the region starting at the current element, spanning as many of the next elements as fit in
+     * {@link #MAX_REGION_SIZE}.
+     */
+    private void mapRegion() {
+        regionStart = elements.start(index);
+        int last = index;
+        while (last + 1 < fence && elements.end(last + 1) - regionStart <= MAX_REGION_SIZE) {
+            last++;
+        }
+        regionEnd = elements.end(last);
+        region = document.region(regionStart, regionEnd - regionStart);
+    }
+
+    /**
+     * The bytes of the document the elements were found in.
+     */
+    @FunctionalInterface
+    public interface Document {
+
+        /**
+         * @return the bytes of the document from the given position on, the buffer is not shared with other regions
+         */
+        ByteBuffer region(long position, long size);
+    }
+}
@@ -0,0 +1,164 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import io.jonasg.xjx.XmlCursor;
+import io.jonasg.xjx.sax.Attribute;
+import io.jonasg.xjx.sax.ParserControl;
+import io.jonasg.xjx.serdes.Path;
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+
+/**
+ * Iterates over the elements found at a given path, deserializing one element at a time as it is pulled.
+ * <p>
+ * Elements outside the item path are skipped without being deserialized, every item is deserialized
+ * by its own {@link PathBasedSaxHandler} with the item element as root tag,
+ * so no item is referenced by the iterator once it has been returned.
+ * @param <T> the type the items are deserialized into
+ */
+public class ItemIterator<T> implements Iterator<T> {
+
+    private final XmlCursor cursor;
+
+    private final String[] sections;
+
+    private final Function<String, PathWriterIndex> indexSupplier;
+
+    private final XjxConfiguration configuration;
+
+    private int matched;
+
+    private boolean positioned;
+
+    private boolean exhausted;
+
+    private boolean skipRequested;
+
+    public ItemIterator(XmlCursor cursor, Path itemPath, Function<String, PathWriterIndex> indexSupplier, XjxConfiguration configuration) {
+        if (itemPath.size() == 0) {
+            throw new IllegalArgumentException("Item path must contain at least one tag but was " + itemPath);
+        }
+        this.cursor = cursor;
+        this.sections = new String[itemPath.size()];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = itemPath.getSection(i).name();
+        }
+        this.indexSupplier = indexSupplier;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!positioned && !exhausted) {
+            positioned = advance();
+            exhausted = !positioned;
+        }
+        return positioned;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        positioned = false;
+        return readItem();
+    }
+
+    /**
+     * Moves the cursor to the start tag of the next item, skipping every element that can not contain one.
+     * @return false when the document contains no more items
+     */
+    private boolean advance() {
+        while (true) {
+            switch (cursor.next()) {
+                case START_TAG -> {
+                    if (cursor.depth() - 1 == matched && cursor.name().equals(sections[matched])) {
+                        matched++;
+                        if (matched == sections.length) {
+                            return true;
+                        }
+                    } else {
+                        cursor.skipElement();
+                    }
+                }
+                case END_TAG -> {
+                    if (cursor.depth() == matched) {
+                        matched--;
+                    }
+                }
+                case END_DOCUMENT -> {
+                    return false;
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private T readItem() {
+        var itemTag = cursor.name();
+        var saxHandler = new PathBasedSaxHandler<T>(indexSupplier, configuration);
+        saxHandler.parserControl(new ParserControl() {
+            @Override
+            public void skipElement() {
+                skipRequested = true;
+            }
+
+            @Override
+            public void stopParsing() {
+                // items are always read up to their end tag, so that the next item can be found
+            }
+        });
+        saxHandler.startDocument();
+        int level = startTag(saxHandler) ? 0 : 1;
+        while (level > 0) {
+            switch (cursor.next()) {
+                case START_TAG -> {
+                    if (!startTag(saxHandler)) {
+                        level++;
+                    }
+                }
+                case END_TAG -> {
+                    level--;
+                    saxHandler.endTag(cursor.namespace(), cursor.name());
+                }
+                case CHARACTERS -> saxHandler.characters(cursor.text());
+                case END_DOCUMENT -> throw new XjxDeserializationException("Document ended before " + itemTag + " was closed");
+            }
+        }
+        matched--;
+        return saxHandler.instance();
+    }
+
+    /**
+     * Reports the start tag the cursor is positioned on, skipping the element when the handler asks for it.
+     * @return whether the element was skipped
+     */
+    private boolean startTag(PathBasedSaxHandler<T> saxHandler) {
+        saxHandler.startTag(cursor.namespace(), cursor.name(), attributes());
+        if (!skipRequested) {
+            return false;
+        }
+        skipRequested = false;
+        cursor.skipElement();
+        saxHandler.endTag(cursor.namespace(), cursor.name());
+        return true;
+    }
+
+    private List<Attribute> attributes() {
+        int count = cursor.attributeCount();
+        if (count == 0) {
+            return List.of();
+        }
+        var attributes = new ArrayList<Attribute>(count);
+        for (int i = 0; i < count; i++) {
+            attributes.add(new Attribute(cursor.attributeName(i), cursor.attributeValue(i)));
+        }
+        return attributes;
+    }
+}
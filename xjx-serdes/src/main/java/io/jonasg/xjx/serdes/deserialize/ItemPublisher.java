@@ -0,0 +1,234 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.jonasg.xjx.FeedableTokenizer;
+import io.jonasg.xjx.serdes.Path;
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+
+/**
+ * Publishes the items deserialized from a document whose UTF-8 encoded bytes are themselves published,
+ * parsing the document as its bytes arrive.
+ * <p>
+ * Every subscription subscribes to the publisher of the bytes on its first request and feeds every buffer received
+ * to a {@link FeedableTokenizer}, no thread is dedicated to a subscription nor ever blocked. Items are published on
+ * the thread of the signal that made them available, either the buffer that completed them or the request of the
+ * subscriber. The next buffer is only requested once every item read so far has been published and more items are
+ * requested, so neither side buffers more than a single buffer and the items it holds.
+ * @param <T> the type the items are deserialized into
+ */
+public class ItemPublisher<T> implements Flow.Publisher<T> {
+
+    private final Flow.Publisher<ByteBuffer> data;
+
+    private final Path itemPath;
+
+    private final Function<String, PathWriterIndex> indexSupplier;
+
+    private final XjxConfiguration configuration;
+
+    /**
+     * @param data the publisher of the UTF-8 encoded document
+     * @param itemPath the absolute path of the elements to deserialize
+     * @param indexSupplier supplies the index of an item by its root tag
+     * @param configuration the configuration the items are deserialized with
+     */
+    public ItemPublisher(Flow.Publisher<ByteBuffer> data, Path itemPath, Function<String, PathWriterIndex> indexSupplier,
+                         XjxConfiguration configuration) {
+        this.data = data;
+        this.itemPath = itemPath;
+        this.indexSupplier = indexSupplier;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new ItemSubscription(subscriber));
+    }
+
+    /**
+     * Serializes the signals of the subscriber and of the data publisher through a drain loop, the thread that finds
+     * the loop idle runs it on behalf of every signal arriving in the meantime.
+     */
+    private class ItemSubscription implements Flow.Subscription, Flow.Subscriber<ByteBuffer> {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+        private volatile Flow.Subscription upstream;
+
+        private volatile boolean upstreamDone;
+
+        private volatile Throwable upstreamFailure;
+
+        private volatile Throwable invalidRequest;
+
+        private volatile boolean cancelled;
+
+        // only accessed by the drain loop
+        private final Queue<T> items = new ArrayDeque<>();
+
+        private final ItemTokenEmitter<T> emitter = new ItemTokenEmitter<>(itemPath, indexSupplier, configuration, items::add);
+
+        private final FeedableTokenizer tokenizer = new FeedableTokenizer(emitter);
+
+        private boolean bufferRequested;
+
+        private boolean ended;
+
+        private Throwable failure;
+
+        ItemSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items, must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            if (subscribed.compareAndSet(false, true)) {
+                data.subscribe(this);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            var upstream = this.upstream;
+            if (upstream != null) {
+                upstream.cancel();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            drain();
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            buffers.add(buffer);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            upstreamFailure = throwable;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                boolean progressed = true;
+                while (!cancelled && progressed) {
+                    progressed = next();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Takes the next step of the subscription: publishing an item, parsing a buffer or signalling the end.
+         * @return false when nothing can be done until the next signal
+         */
+        private boolean next() {
+            if (invalidRequest != null) {
+                terminate(invalidRequest);
+                return false;
+            }
+            if (!items.isEmpty()) {
+                if (demand.get() == 0) {
+                    return false;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(items.poll());
+                return true;
+            }
+            if (failure != null) {
+                terminate(failure);
+                return false;
+            }
+            if (ended) {
+                cancelled = true;
+                subscriber.onComplete();
+                return false;
+            }
+            var buffer = buffers.poll();
+            if (buffer != null) {
+                bufferRequested = false;
+                parse(() -> tokenizer.feed(buffer));
+                return true;
+            }
+            if (upstreamFailure != null) {
+                failure = upstreamFailure;
+                return true;
+            }
+            if (upstreamDone) {
+                ended = true;
+                parse(() -> {
+                    tokenizer.endOfInput();
+                    emitter.endOfInput();
+                });
+                return true;
+            }
+            var upstream = this.upstream;
+            if (demand.get() > 0 && !bufferRequested && upstream != null) {
+                bufferRequested = true;
+                upstream.request(1);
+                return true;
+            }
+            return false;
+        }
+
+        private void parse(Runnable parsing) {
+            try {
+                parsing.run();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private void terminate(Throwable throwable) {
+            cancel();
+            subscriber.onError(throwable);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.jonasg.xjx.Attributes;
+import io.jonasg.xjx.Token;
+import io.jonasg.xjx.TokenEmitter;
+import io.jonasg.xjx.sax.Attribute;
+import io.jonasg.xjx.sax.ParserControl;
+import io.jonasg.xjx.serdes.Path;
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+
+/**
+ * Deserializes the elements found at a given path from the tokens pushed to it, handing every item over as soon as
+ * its end tag is reported. The push based counterpart of {@link ItemIterator}, meant for a
+ * {@link io.jonasg.xjx.FeedableTokenizer} that is fed the document as it arrives.
+ * <p>
+ * Tokens outside the item path are ignored, every item is deserialized by its own {@link PathBasedSaxHandler}
+ * with the item element as root tag. Elements the handler asks to skip are ignored up to their end tag.
+ * @param <T> the type the items are deserialized into
+ */
+class ItemTokenEmitter<T> implements TokenEmitter, ParserControl {
+
+    private final String[] sections;
+
+    private final Function<String, PathWriterIndex> indexSupplier;
+
+    private final XjxConfiguration configuration;
+
+    private final Consumer<T> items;
+
+    private int depth;
+
+    private int matched;
+
+    private PathBasedSaxHandler<T> item;
+
+    private String itemTag;
+
+    private int itemDepth;
+
+    /**
+     * Depth of the skipped element within its own content, 0 when no element is being skipped.
+     */
+    private int skipDepth;
+
+    private boolean inStartTag;
+
+    private boolean skipRequested;
+
+    ItemTokenEmitter(Path itemPath, Function<String, PathWriterIndex> indexSupplier, XjxConfiguration configuration, Consumer<T> items) {
+        if (itemPath.size() == 0) {
+            throw new IllegalArgumentException("Item path must contain at least one tag but was " + itemPath);
+        }
+        this.sections = new String[itemPath.size()];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = itemPath.getSection(i).name();
+        }
+        this.indexSupplier = indexSupplier;
+        this.configuration = configuration;
+        this.items = items;
+    }
+
+    @Override
+    public void emit(Token<?> token) {
+        // tokens without a SAX counterpart such as comments are not reported
+    }
+
+    @Override
+    public void startTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+        if (item != null) {
+            itemStartTag(namespace, name, attributes, selfClosing);
+            return;
+        }
+        depth++;
+        if (depth - 1 == matched && name.equals(sections[matched])) {
+            matched++;
+            if (matched == sections.length) {
+                item = new PathBasedSaxHandler<>(indexSupplier, configuration);
+                item.parserControl(this);
+                item.startDocument();
+                itemTag = name;
+                itemStartTag(namespace, name, attributes, selfClosing);
+                return;
+            }
+        }
+        if (selfClosing) {
+            endTag(namespace, name);
+        }
+    }
+
+    @Override
+    public void endTag(String namespace, String name) {
+        if (item != null) {
+            itemEndTag(namespace, name);
+            return;
+        }
+        if (depth == matched) {
+            matched--;
+        }
+        depth--;
+    }
+
+    @Override
+    public void characters(CharSequence data) {
+        if (item != null && skipDepth == 0) {
+            item.characters(data);
+        }
+    }
+
+    @Override
+    public void startComment() {
+    }
+
+    @Override
+    public void closeComment(String body) {
+    }
+
+    @Override
+    public void docTypeDeclaration() {
+    }
+
+    @Override
+    public void skipElement() {
+        skipRequested = inStartTag;
+    }
+
+    @Override
+    public void stopParsing() {
+        // items are always read up to their end tag, so that the next item can be found
+    }
+
+    /**
+     * @throws XjxDeserializationException when the document ended within an item
+     */
+    void endOfInput() {
+        if (item != null) {
+            throw new XjxDeserializationException("Document ended before " + itemTag + " was closed");
+        }
+    }
+
+    private void itemStartTag(String namespace, String name, Attributes attributes, boolean selfClosing) {
+        if (skipDepth > 0) {
+            if (!selfClosing) {
+                skipDepth++;
+            }
+            return;
+        }
+        inStartTag = true;
+        try {
+            item.startTag(namespace, name, toList(attributes));
+        } finally {
+            inStartTag = false;
+        }
+        itemDepth++;
+        if (selfClosing) {
+            skipRequested = false;
+            itemEndTag(namespace, name);
+        } else if (skipRequested) {
+            skipRequested = false;
+            skipDepth = 1;
+        }
+    }
+
+    private void itemEndTag(String namespace, String name) {
+        if (skipDepth > 0) {
+            skipDepth--;
+            if (skipDepth > 0) {
+                return;
+            }
+        }
+        itemDepth--;
+        item.endTag(namespace, name);
+        if (itemDepth == 0) {
+            T instance = item.instance();
+            item = null;
+            matched--;
+            depth--;
+            items.accept(instance);
+        }
+    }
+
+    private static List<Attribute> toList(Attributes attributes) {
+        int size = attributes.size();
+        if (size == 0) {
+            return List.of();
+        }
+        var list = new ArrayList<Attribute>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new Attribute(attributes.name(i), attributes.value(i)));
+        }
+        return list;
+    }
+}
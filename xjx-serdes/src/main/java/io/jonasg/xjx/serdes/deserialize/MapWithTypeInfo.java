@@ -1,6 +1,11 @@
 package io.jonasg.xjx.serdes.deserialize;
 
 import java.util.Map;
+import java.util.function.Function;
 
-public record MapWithTypeInfo(Map<String, Object> map, Class<?> valueType) {
+/**
+ * A map whose values are deserialized into the given value type, only used internally while reading a document.
+ * @param valueIndex the index used to deserialize each value, by the tag of the value
+ */
+record MapWithTypeInfo(Map<String, Object> map, Class<?> valueType, Function<String, PathWriterIndex> valueIndex) {
 }
@@ -1,5 +1,6 @@
 package io.jonasg.xjx.serdes.deserialize;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -7,11 +8,17 @@ import java.util.Map;
 import java.util.function.Function;
 
 import io.jonasg.xjx.sax.Attribute;
+import io.jonasg.xjx.sax.CharSequenceSaxHandler;
+import io.jonasg.xjx.sax.ControllableSaxHandler;
+import io.jonasg.xjx.sax.ParserControl;
 import io.jonasg.xjx.sax.SaxHandler;
-import io.jonasg.xjx.serdes.Path;
 import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
 
-public class PathBasedSaxHandler<T> implements SaxHandler {
+/**
+ * Deserializes a document by matching its tags against the paths of a {@link PathWriterIndex}.
+ * Elements no indexed path leads into are skipped by the parser, when it allows for it.
+ */
+public class PathBasedSaxHandler<T> implements CharSequenceSaxHandler, ControllableSaxHandler {
 
     private final Function<String, PathWriterIndex> indexSupplier;
 
@@ -21,16 +28,32 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
 
     private String rootTag;
 
-    private Path path;
+    private PathNode[] nodes = new PathNode[16];
+
+    private int depth;
 
     private PathWriterIndex pathWriterIndex;
 
-    private String data;
+    private Binding binding;
+
+    /**
+     * The text of the current element, reused from one element to the next.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    private boolean hasText;
+
+    /**
+     * The text of the current element as a {@link String}, only created for the writers that hold on to it.
+     */
+    private String textValue;
 
     private SaxHandler mapRootSaxHandlerDelegate;
 
     private String mapStartTag;
 
+    private ParserControl parserControl;
+
     public PathBasedSaxHandler(Function<String, PathWriterIndex> indexSupplier, XjxConfiguration configuration) {
         this.indexSupplier = indexSupplier;
 		this.configuration = configuration;
@@ -43,6 +66,11 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
         handleRootTag(rootTag);
     }
 
+    @Override
+    public void parserControl(ParserControl parserControl) {
+        this.parserControl = parserControl;
+    }
+
     @Override
     public void startDocument() {
     }
@@ -56,12 +84,14 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
         if (this.rootTag == null) {
             handleRootTag(name);
         } else {
-            this.path = path.append(name);
-            List<PathWriter> pathWriters = pathWriterIndex.get(path);
+            PathNode parentNode = currentNode();
+            PathNode node = parentNode == null ? null : parentNode.child(name);
+            push(node);
+            List<PathWriter> pathWriters = node == null ? null : node.writers();
             if (pathWriters != null) {
 				pathWriters.forEach(pathWriter -> {
 					if (pathWriter.getObjectInitializer() != null) {
-						Object object = pathWriter.getObjectInitializer().get();
+						Object object = pathWriter.getObjectInitializer().apply(binding);
 						if (object instanceof Map) {
 							this.mapRootSaxHandlerDelegate = new MapRootSaxHandler((HashMap<String, Object>) object);
 							this.mapStartTag = name;
@@ -73,12 +103,26 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
 					}
 				});
             }
-            attributes.forEach(a -> {
-                List<PathWriter> attributeWriters = pathWriterIndex.get(path.appendAttribute(a.name()));
-                if (attributeWriters != null) {
-					attributeWriters.stream().forEach(attributeWriter -> attributeWriter.getValueInitializer().accept(a.value()));
+        }
+        writeAttributes(attributes);
+        if (parserControl != null && mapRootSaxHandlerDelegate == null && currentNode() == null) {
+            parserControl.skipElement();
+        }
+    }
+
+    private void writeAttributes(List<Attribute> attributes) {
+        PathNode node = currentNode();
+        if (node == null || !node.hasAttributeWriters()) {
+            return;
+        }
+        for (Attribute attribute : attributes) {
+            List<PathWriter> attributeWriters = node.attributeWriters(attribute.name());
+            if (attributeWriters != null) {
+                for (PathWriter attributeWriter : attributeWriters) {
+                    attributeWriter.getValueInitializer().accept(binding, attribute.value());
+                    written(attributeWriter);
                 }
-            });
+            }
         }
     }
 
@@ -91,40 +135,72 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
                 this.mapRootSaxHandlerDelegate.endTag(namespace, name);
             }
         }
-        List<PathWriter> pathWriters = pathWriterIndex.get(path);
+        PathNode node = currentNode();
+        List<PathWriter> pathWriters = node == null ? null : node.writers();
         if (pathWriters != null) {
 			pathWriters.forEach(pathWriter -> {
-				if (data != null) {
-					pathWriter.getValueInitializer().accept(data);
+				if (hasText) {
+					pathWriter.getValueInitializer().accept(binding, pathWriter.readsTextInPlace() ? text : textValue());
+					written(pathWriter);
 				}
 				if (pathWriter.getObjectInitializer() != null && !objectInstances.isEmpty() && objectInstances.size() != 1) {
 					 if (pathWriter.getValueInitializer() != null) {
-						 pathWriter.getValueInitializer().accept(objectInstances.peek());
+						 pathWriter.getValueInitializer().accept(binding, objectInstances.peek());
+						 written(pathWriter);
 					 }
 					objectInstances.pop();
 				}
 			});
         }
-        data = null;
-        path = path.pop();
+        hasText = false;
+        textValue = null;
+        if (depth > 0) {
+            depth--;
+        }
     }
 
     @Override
-    public void characters(String data) {
+    public void characters(CharSequence data) {
         if (this.mapRootSaxHandlerDelegate != null) {
-            this.mapRootSaxHandlerDelegate.characters(data);
+            String value = data.toString();
+            this.mapRootSaxHandlerDelegate.characters(value);
+            text(data);
+            this.textValue = value;
+        } else if (currentNode() != null && currentNode().writers() != null) {
+            text(data);
+        } else {
+            this.hasText = false;
+            this.textValue = null;
         }
-        this.data = data;
+    }
+
+    /**
+     * Copies the text into the reused buffer, the given sequence is only valid while it is reported.
+     */
+    private void text(CharSequence data) {
+        this.text.setLength(0);
+        this.text.append(data);
+        this.hasText = true;
+        this.textValue = null;
+    }
+
+    private String textValue() {
+        if (textValue == null) {
+            textValue = text.toString();
+        }
+        return textValue;
     }
 
     private void handleRootTag(String name) {
         this.pathWriterIndex = indexSupplier.apply(name);
+        this.binding = pathWriterIndex.newBinding();
         this.rootTag = name;
-        path = Path.of(name);
-        List<PathWriter> pathWriters = pathWriterIndex.get(path);
+        PathNode node = pathWriterIndex.rootNode(name);
+        push(node);
+        List<PathWriter> pathWriters = node == null ? null : node.writers();
         if (pathWriters != null) {
 			pathWriters.forEach(pathWriter -> {
-				Object parent = pathWriter.getRootInitializer().get();
+				Object parent = pathWriter.getRootInitializer().apply(binding);
 				if (parent instanceof MapAsRoot mapAsRoot) {
 					this.mapRootSaxHandlerDelegate = new MapRootSaxHandler(mapAsRoot.map());
 					this.objectInstances.push(mapAsRoot.root());
@@ -135,9 +211,35 @@ public class PathBasedSaxHandler<T> implements SaxHandler {
         }
     }
 
+    /**
+     * Stops parsing once every writer with a value initializer has written, when configured to do so.
+     */
+    private void written(PathWriter pathWriter) {
+        if (parserControl != null
+                && configuration.stopParsingWhenComplete()
+                && !pathWriterIndex.isOpenEnded()
+                && binding.written(pathWriter)) {
+            parserControl.stopParsing();
+        }
+    }
+
+    /**
+     * @return the node of the current tag or null when no indexed path leads to it
+     */
+    private PathNode currentNode() {
+        return depth == 0 ? null : nodes[depth - 1];
+    }
+
+    private void push(PathNode node) {
+        if (depth == nodes.length) {
+            nodes = Arrays.copyOf(nodes, depth * 2);
+        }
+        nodes[depth++] = node;
+    }
+
     @SuppressWarnings("unchecked")
     public T instance() {
-		Object instance = objectInstances.pop();
+		Object instance = objectInstances.removeLast();
 		if (instance instanceof RecordWrapper recordWrapper) {
 			return (T) recordWrapper.record();
 		}
@@ -0,0 +1,55 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A node of the trie a {@link PathWriterIndex} is compiled into, one node per tag of the indexed paths.
+ * Each node holds the writers of its path and of the attributes of its tag.
+ */
+final class PathNode {
+
+	private final Map<String, PathNode> children = new HashMap<>();
+
+	private final Map<String, List<PathWriter>> attributeWriters = new HashMap<>();
+
+	private List<PathWriter> writers;
+
+	/**
+	 * @return the node of the given child tag or null when no path continues with it
+	 */
+	PathNode child(String name) {
+		return children.get(name);
+	}
+
+	/**
+	 * @return the writers of this node's path or null when there are none
+	 */
+	List<PathWriter> writers() {
+		return writers;
+	}
+
+	/**
+	 * @return the writers of the given attribute of this node's tag or null when there are none
+	 */
+	List<PathWriter> attributeWriters(String attribute) {
+		return attributeWriters.get(attribute);
+	}
+
+	boolean hasAttributeWriters() {
+		return !attributeWriters.isEmpty();
+	}
+
+	PathNode getOrAddChild(String name) {
+		return children.computeIfAbsent(name, n -> new PathNode());
+	}
+
+	void setWriters(String attribute, List<PathWriter> pathWriters) {
+		if (attribute == null) {
+			writers = pathWriters;
+		} else {
+			attributeWriters.put(attribute, pathWriters);
+		}
+	}
+}
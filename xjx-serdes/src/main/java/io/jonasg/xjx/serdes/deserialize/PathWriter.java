@@ -1,52 +1,84 @@
 package io.jonasg.xjx.serdes.deserialize;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+/**
+ * Writes to the object graph being read when its path is reached. Writers do not hold on to any of the instances
+ * they create, these are kept in the {@link Binding} of the read they are handed.
+ */
 public class PathWriter {
 
-    private Supplier<Object> rootInitializer;
+    private Function<Binding, Object> rootInitializer;
 
-    private Supplier<Object> objectInitializer;
+    private Function<Binding, Object> objectInitializer;
 
-    private Consumer<Object> valueInitializer;
+    private BiConsumer<Binding, Object> valueInitializer;
 
-    public static PathWriter rootInitializer(Supplier<Object> rootInitializer) {
+    private int valueWriterId = -1;
+
+    private boolean readsTextInPlace;
+
+    public static PathWriter rootInitializer(Function<Binding, Object> rootInitializer) {
         PathWriter pathWriter = new PathWriter();
         pathWriter.rootInitializer = rootInitializer;
         return pathWriter;
     }
 
-    public static PathWriter objectInitializer(Supplier<Object> objectInitializer) {
+    public static PathWriter objectInitializer(Function<Binding, Object> objectInitializer) {
         PathWriter pathWriter = new PathWriter();
         pathWriter.objectInitializer = objectInitializer;
         return pathWriter;
     }
 
-    public void setRootInitializer(Supplier<Object> rootInitializer) {
+    public void setRootInitializer(Function<Binding, Object> rootInitializer) {
         this.rootInitializer = rootInitializer;
     }
 
-	public PathWriter setValueInitializer(Consumer<Object> valueInitializer) {
+	public PathWriter setValueInitializer(BiConsumer<Binding, Object> valueInitializer) {
 		this.valueInitializer = valueInitializer;
 		return this;
 	}
 
-    public static PathWriter valueInitializer(Consumer<Object> o) {
+    /**
+     * Marks the value initializer as one that only reads a text value while it is invoked, it can then be handed
+     * the text as a {@link CharSequence} that is reused once it returns rather than as a {@link String}.
+     */
+    public PathWriter setReadsTextInPlace(boolean readsTextInPlace) {
+        this.readsTextInPlace = readsTextInPlace;
+        return this;
+    }
+
+    public static PathWriter valueInitializer(BiConsumer<Binding, Object> o) {
         PathWriter pathWriter = new PathWriter();
         pathWriter.valueInitializer = o;
         return pathWriter;
     }
 
-    public Supplier<Object> getRootInitializer() {
+    public Function<Binding, Object> getRootInitializer() {
         return rootInitializer;
     }
 
-    public Supplier<Object> getObjectInitializer() {
+    public Function<Binding, Object> getObjectInitializer() {
         return objectInitializer;
     }
 
-    public Consumer<Object> getValueInitializer() {
+    public BiConsumer<Binding, Object> getValueInitializer() {
         return valueInitializer;
     }
+
+    public boolean readsTextInPlace() {
+        return readsTextInPlace;
+    }
+
+    /**
+     * @return the id of this writer among the writers with a value initializer of its index, -1 when not indexed
+     */
+    public int getValueWriterId() {
+        return valueWriterId;
+    }
+
+    void setValueWriterId(int valueWriterId) {
+        this.valueWriterId = valueWriterId;
+    }
 }
@@ -6,28 +6,115 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * The {@link PathWriter}s of a type, by path.
+ * <p>
+ * Once built an index is not modified anymore and can be shared between reads and threads,
+ * the state of a read is held by the {@link Binding} returned by {@link #newBinding()}.
+ * <p>
+ * Next to the lookup by {@link Path}, the index is kept as a trie with a node per tag,
+ * allowing a document to be matched one tag at a time without building a {@link Path} for each tag.
+ */
 public class PathWriterIndex {
 
+	/**
+	 * Stands in for the root tag of an index that is read from any root tag, it is not a valid tag name.
+	 */
+	public static final String ANY_ROOT_TAG = "*";
+
 	private final Map<Path, List<PathWriter>> index = new HashMap<>();
 
+	private final PathNode root = new PathNode();
+
+	private final List<Supplier<?>> slotInitializers = new ArrayList<>();
+
+	private int valueWriterCount;
+
+	private boolean openEnded;
+
 	public void put(Path path, PathWriter pathWriter) {
-		index.compute(path, (p, w) -> {
-			if (w == null) {
-				List<PathWriter> pathWriters = new ArrayList<>();
-				pathWriters.add(pathWriter);
-				return pathWriters;
-			}
-			w.add(pathWriter);
-			return w;
-		});
+		if (pathWriter.getValueInitializer() != null && pathWriter.getValueWriterId() == -1) {
+			pathWriter.setValueWriterId(valueWriterCount++);
+		}
+		index.computeIfAbsent(path, p -> {
+			List<PathWriter> pathWriters = new ArrayList<>();
+			node(p).setWriters(p.getAttribute(), pathWriters);
+			return pathWriters;
+		}).add(pathWriter);
 	}
 
 	public void putAll(PathWriterIndex pathWriterIndex) {
-		index.putAll(pathWriterIndex.index);
+		if (pathWriterIndex == this) {
+			return;
+		}
+		pathWriterIndex.index.forEach((path, pathWriters) -> pathWriters.forEach(pathWriter -> put(path, pathWriter)));
 	}
 
 	public List<PathWriter> get(Path path) {
 		return index.get(path);
 	}
+
+	/**
+	 * @return the node of the given root tag, falling back to the node of {@link #ANY_ROOT_TAG},
+	 * or null when no path starts with either
+	 */
+	PathNode rootNode(String rootTag) {
+		PathNode node = root.child(rootTag);
+		return node != null ? node : root.child(ANY_ROOT_TAG);
+	}
+
+	/**
+	 * @return whether any path of this index starts with the given tag
+	 */
+	boolean hasRoot(String rootTag) {
+		return root.child(rootTag) != null;
+	}
+
+	/**
+	 * @return the number of writers with a value initializer
+	 */
+	public int valueWriterCount() {
+		return valueWriterCount;
+	}
+
+	/**
+	 * Marks the index as containing writers that can be written to any number of times, such as those of collections.
+	 */
+	public void markOpenEnded() {
+		this.openEnded = true;
+	}
+
+	/**
+	 * @return whether values can be written up to the end of a document, regardless of which writers already wrote
+	 */
+	public boolean isOpenEnded() {
+		return openEnded;
+	}
+
+	/**
+	 * Reserves a slot in the {@link Binding} of every read.
+	 * @param initializer creates the value of the slot the first time it is used within a read
+	 * @return the slot
+	 */
+	public int addSlot(Supplier<?> initializer) {
+		slotInitializers.add(initializer);
+		return slotInitializers.size() - 1;
+	}
+
+	/**
+	 * @return fresh state for a single read of this index
+	 */
+	public Binding newBinding() {
+		return new Binding(slotInitializers.toArray(Supplier<?>[]::new), valueWriterCount);
+	}
+
+	private PathNode node(Path path) {
+		PathNode node = root;
+		for (int i = 0; i < path.size(); i++) {
+			node = node.getOrAddChild(path.getSection(i).name());
+		}
+		return node;
+	}
 }
@@ -1,9 +1,6 @@
 package io.jonasg.xjx.serdes.deserialize;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +13,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.jonasg.xjx.serdes.Path;
 import io.jonasg.xjx.serdes.Tag;
@@ -38,40 +36,51 @@ public class PathWriterIndexFactory {
 
 	private final XjxConfiguration configuration;
 
-	private final Map<Class<?>, Object> collectionCacheType = new HashMap<>();
+	private final Map<IndexKey, PathWriterIndex> indexes = new ConcurrentHashMap<>();
 
 	public PathWriterIndexFactory(XjxConfiguration xjxConfiguration) {
 		this.configuration = xjxConfiguration;
 	}
 
+	/**
+	 * Returns the index for the given type and root tag, built once and shared by every subsequent call.
+	 * Every read of the index needs its own {@link PathWriterIndex#newBinding() binding}.
+	 * <p>
+	 * Only the root tags the paths of the type start with get an index of their own. Any other root tag shares the
+	 * index rooted at {@link PathWriterIndex#ANY_ROOT_TAG}, so the number of cached indexes is bounded by the
+	 * mapping rather than by the root tags of the documents read.
+	 */
 	public <T> PathWriterIndex createIndexForType(Class<T> type, String rootTag) {
-        Path path = Path.of(rootTag);
-        return buildIndex(type, path);
+		PathWriterIndex anyRootIndex = indexes.computeIfAbsent(new IndexKey(type, PathWriterIndex.ANY_ROOT_TAG),
+				key -> buildIndex(type, Path.of(PathWriterIndex.ANY_ROOT_TAG)));
+		if (!anyRootIndex.hasRoot(rootTag)) {
+			return anyRootIndex;
+		}
+        return indexes.computeIfAbsent(new IndexKey(type, rootTag), key -> buildIndex(type, Path.of(rootTag)));
     }
 
     private <T> PathWriterIndex buildIndex(Class<T> type, Path path) {
 		var index = new PathWriterIndex();
+		int rootSlot;
 		if (type.isRecord()) {
-			RecordWrapper<T> recordWrapper = new RecordWrapper<>(type);
-			index.put(path, PathWriter.rootInitializer(() -> recordWrapper));
-			return doBuildIndex(type, path, index, () -> recordWrapper);
+			rootSlot = index.addSlot(() -> new RecordWrapper<>(type));
 		} else {
-			T root = TypeReflector.reflect(type).instanceReflector().instance();
-			index.put(path, PathWriter.rootInitializer(() -> root));
-			return doBuildIndex(type, path, index, () -> root);
+			rootSlot = index.addSlot(TypeReflector.reflect(type)::newInstance);
 		}
+		index.put(path, PathWriter.rootInitializer(binding -> binding.slot(rootSlot)));
+		return doBuildIndex(type, path, index, binding -> binding.slot(rootSlot));
     }
 
     private PathWriterIndex doBuildIndex(Class<?> type,
                                                Path path,
                                                PathWriterIndex index,
-                                               Supplier<Object> root) {
+                                               Function<Binding, Object> root) {
         TypeReflector.reflect(type).fields()
                 .forEach(field -> indexField(field, index, path, root));
         return index;
     }
 
-    private void indexField(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
+    private void indexField(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
         if (BASIC_TYPES.contains(field.type())) {
             indexSimpleType(field, index, path, parent);
         } else if (List.class.equals(field.type())) {
@@ -89,19 +98,20 @@ public class PathWriterIndexFactory {
         }
     }
 
-	private void indexRecordType(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
-		RecordWrapper<?> recordWrapper = new RecordWrapper<>(field.type());
-		index.put(getPathForField(field, path), PathWriter.objectInitializer(() -> {
-			return recordWrapper;
-		}).setValueInitializer((value) -> {
+	private void indexRecordType(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
+		FieldAccessor accessor = FieldAccessor.of(field, configuration);
+		int recordSlot = index.addSlot(() -> new RecordWrapper<>(field.type()));
+		index.put(getPathForField(field, path), PathWriter.objectInitializer(binding -> {
+			return binding.slot(recordSlot);
+		}).setValueInitializer((binding, value) -> {
 			if (value instanceof RecordWrapper<?> recordWrapperValue) {
-				FieldAccessor.of(field, parent.get(), configuration).set(recordWrapperValue.record());
+				accessor.set(parent.apply(binding), recordWrapperValue.record());
 			}
 		}));
-		doBuildIndex(field.type(), getPathForField(field, path), index, () -> recordWrapper);
+		doBuildIndex(field.type(), getPathForField(field, path), index, binding -> binding.slot(recordSlot));
 	}
 
-	private void indexMapType(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
+	private void indexMapType(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
         Path pathForField = getPathForField(field, path);
         if (pathForField.isRoot()) {
             indexMapAsRootType(field, index, parent, pathForField);
@@ -112,35 +122,41 @@ public class PathWriterIndexFactory {
 
     private void doIndexMapType(FieldReflector field,
                                        PathWriterIndex index,
-                                       Supplier<Object> parent,
+                                       Function<Binding, Object> parent,
                                        Path pathForField) {
-        index.put(pathForField, PathWriter.objectInitializer(() -> {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
+        index.markOpenEnded();
+        Class<?> valueType = field.typeArgument(1);
+        // values are rooted at their key, any key the value type does not declare shares the index rooted at any tag
+        Function<String, PathWriterIndex> valueIndex = key -> createIndexForType(valueType, key);
+        index.put(pathForField, PathWriter.objectInitializer(binding -> {
             Map<String, Object> map = new HashMap<>();
-            Class<?> valueType = (Class<?>) ((ParameterizedType) field.genericType()).getActualTypeArguments()[1];
-            FieldAccessor.of(field, parent.get(), configuration).set(map);
+            accessor.set(parent.apply(binding), map);
             if (valueType.equals(Object.class)) {
                 return map;
             } else {
-                return new MapWithTypeInfo(map, valueType);
+                return new MapWithTypeInfo(map, valueType, valueIndex);
             }
         }));
     }
 
     private void indexMapAsRootType(FieldReflector field,
                                            PathWriterIndex index,
-                                           Supplier<Object> parent,
+                                           Function<Binding, Object> parent,
                                            Path pathForField) {
-        index.put(pathForField, PathWriter.rootInitializer(() -> {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
+        index.markOpenEnded();
+        index.put(pathForField, PathWriter.rootInitializer(binding -> {
             Map<String, Object> map = new HashMap<>();
-            FieldAccessor.of(field, parent.get(), configuration).set(map);
-            return new MapAsRoot(parent.get(), map);
+            accessor.set(parent.apply(binding), map);
+            return new MapAsRoot(parent.apply(binding), map);
         }));
     }
 
     private void indexComplexType(FieldReflector field,
                                   PathWriterIndex index,
                                   Path path,
-                                  Supplier<Object> parent) {
+                                  Function<Binding, Object> parent) {
         if (field.hasAnnotation(Tag.class)) {
             doIndexComplexType(field, index, path, parent);
         } else {
@@ -157,21 +173,22 @@ public class PathWriterIndexFactory {
         }
     }
 
-    private void doIndexComplexType(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
+    private void doIndexComplexType(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
         if (field.hasAnnotation(ValueDeserialization.class)) {
-            index.put(getPathForField(field, path), PathWriter.valueInitializer((value) -> {
-                value = ValueDeserializationHandler.getInstance().handle(field.rawField(), (String) value)
-                        .orElse(value);
-                FieldAccessor.of(field, parent.get(), configuration).set(value);
-            }));
+            ValueDeserializer<?> deserializer = valueDeserializerFor(field);
+            index.put(getPathForField(field, path), PathWriter.valueInitializer((binding, value) ->
+                    accessor.set(parent.apply(binding), deserialize(deserializer, value))));
         } else {
-            Supplier<Object> complexTypeSupplier = () -> {
+            TypeReflector<?> complexTypeReflector = TypeReflector.reflect(field.type());
+            Function<Binding, Object> complexTypeSupplier = binding -> {
+                Map<Class<?>, Object> collectionCacheType = binding.collectionCacheType();
                 if (collectionCacheType.containsKey(field.type())) {
                     return collectionCacheType.get(field.type());
                 }
-                Object complexType = TypeReflector.reflect(field.type()).instanceReflector().instance();
+                Object complexType = complexTypeReflector.newInstance();
                 collectionCacheType.put(field.type(), complexType);
-                FieldAccessor.of(field, parent.get(), configuration).set(complexType);
+                accessor.set(parent.apply(binding), complexType);
                 return complexType;
             };
             index.putAll(doBuildIndex(field.type(), getPathForField(field, path), index, complexTypeSupplier));
@@ -183,12 +200,8 @@ public class PathWriterIndexFactory {
             return Optional.of(new TagPath(field.getAnnotation(Tag.class), field));
         }
 
-        Class<?> fieldType = field.type();
-        Field[] fields = fieldType.getDeclaredFields();
-
-        for (Field subField : fields) {
-            FieldReflector subFieldReflector = new FieldReflector(subField);
-            if (BASIC_TYPES.contains(subField.getType())) {
+        for (FieldReflector subFieldReflector : TypeReflector.reflect(field.type()).fields()) {
+            if (BASIC_TYPES.contains(subFieldReflector.type())) {
                 if (subFieldReflector.hasAnnotation(Tag.class)) {
                     return Optional.of(new TagPath(subFieldReflector.getAnnotation(Tag.class), subFieldReflector));
                 }
@@ -199,52 +212,68 @@ public class PathWriterIndexFactory {
         return Optional.empty();
     }
 
-    private void indexEnumType(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
-        index.put(getPathForField(field, path), PathWriter.valueInitializer((value) -> {
-            if (field.hasAnnotation(ValueDeserialization.class)) {
-                value = ValueDeserializationHandler.getInstance().handle(field.rawField(), (String) value)
-                        .orElse(value);
-            }
-            FieldAccessor.of(field, parent.get(), configuration).set(value);
-        }));
+    private void indexEnumType(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
+        ValueDeserializer<?> deserializer = valueDeserializerFor(field);
+        index.put(getPathForField(field, path), PathWriter.valueInitializer((binding, value) ->
+                accessor.set(parent.apply(binding), deserialize(deserializer, value)))
+                .setReadsTextInPlace(deserializer == null));
     }
 
-    private void indexSimpleType(FieldReflector field, PathWriterIndex index, Path path, Supplier<Object> parent) {
+    private void indexSimpleType(FieldReflector field, PathWriterIndex index, Path path, Function<Binding, Object> parent) {
         if (SUPPORTED_ANNOTATIONS.stream().anyMatch(field::hasAnnotation)) {
-            index.put(getPathForField(field, path), PathWriter.valueInitializer((value) -> {
-                if (value instanceof String) {
-                    value = ValueDeserializationHandler.getInstance().handle(field.rawField(), (String) value)
-                            .orElse(value);
-                }
-                FieldAccessor.of(field, parent.get(), configuration).set(value);
-            }));
+            FieldAccessor accessor = FieldAccessor.of(field, configuration);
+            ValueDeserializer<?> deserializer = valueDeserializerFor(field);
+            index.put(getPathForField(field, path), PathWriter.valueInitializer((binding, value) ->
+                    accessor.set(parent.apply(binding), deserialize(deserializer, value)))
+                    .setReadsTextInPlace(deserializer == null && TypeMappers.readsTextInPlace(field.type())));
+        }
+    }
+
+    /**
+     * @return the custom deserializer of the field or null when it has none
+     */
+    private static ValueDeserializer<?> valueDeserializerFor(FieldReflector field) {
+        return ValueDeserializationHandler.getInstance().deserializerFor(field).orElse(null);
+    }
+
+    private static Object deserialize(ValueDeserializer<?> deserializer, Object value) {
+        if (deserializer != null && value instanceof String text) {
+            return deserializer.deserializer(text);
         }
+        return value;
     }
 
-    private void indexSetType(FieldReflector field, PathWriterIndex index, Path parentPath, Supplier<Object> parent) {
-        LazySupplier<Collection<Object>> set = new LazySupplier<>(HashSet::new);
+    private void indexSetType(FieldReflector field, PathWriterIndex index, Path parentPath, Function<Binding, Object> parent) {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
+        index.markOpenEnded();
+        int setSlot = index.addSlot(() -> new LazySupplier<Collection<Object>>(HashSet::new));
         Path path = getPathForField(field, parentPath);
-        var pathWriter = PathWriter.objectInitializer(() -> {
+        var pathWriter = PathWriter.objectInitializer(binding -> {
+			LazySupplier<Collection<Object>> set = binding.slot(setSlot);
 			var value = set.get();
 			if (!value.isEmpty()) {
 				set.reset(HashSet::new);
 			}
-            FieldAccessor.of(field, parent.get(), configuration).set(set.get());
+            accessor.set(parent.apply(binding), set.get());
             return set;
         });
         if (path.isRoot()) {
-            pathWriter.setRootInitializer(() -> {
-                FieldAccessor.of(field, parent.get(), configuration).set(set.get());
-                return parent.get();
+            pathWriter.setRootInitializer(binding -> {
+                LazySupplier<Collection<Object>> set = binding.slot(setSlot);
+                accessor.set(parent.apply(binding), set.get());
+                return parent.apply(binding);
             });
         }
         index.put(path, pathWriter);
 
-        indexListTypeArgument(path, field, index, set);
+        indexListTypeArgument(path, field, index, setSlot);
     }
 
-    private Supplier<Object> collectionSupplierForType(Class<?> typeArgument) {
-        return () -> {
+    private Function<Binding, Object> collectionSupplierForType(Class<?> typeArgument) {
+        TypeReflector<?> typeArgumentReflector = TypeReflector.reflect(typeArgument);
+        return binding -> {
+            Map<Class<?>, Object> collectionCacheType = binding.collectionCacheType();
             if (collectionCacheType.get(typeArgument) != null) {
                 return collectionCacheType.get(typeArgument);
             }
@@ -253,53 +282,59 @@ public class PathWriterIndexFactory {
 				collectionCacheType.put(typeArgument, recordWrapper);
 				return recordWrapper;
 			} else {
-				Object listTypeInstance = TypeReflector.reflect(typeArgument).instanceReflector().instance();
+				Object listTypeInstance = typeArgumentReflector.newInstance();
 				collectionCacheType.put(typeArgument, listTypeInstance);
 				return listTypeInstance;
 			}
         };
     }
 
-    private void indexListType(FieldReflector field, PathWriterIndex index, Path parentPath, Supplier<Object> parent) {
-		LazySupplier<Collection<Object>> list = new LazySupplier<>(ArrayList::new);
+    private void indexListType(FieldReflector field, PathWriterIndex index, Path parentPath, Function<Binding, Object> parent) {
+        FieldAccessor accessor = FieldAccessor.of(field, configuration);
+        index.markOpenEnded();
+		int listSlot = index.addSlot(() -> new LazySupplier<Collection<Object>>(ArrayList::new));
         Path path = getPathForField(field, parentPath);
-        var pathWriter = PathWriter.objectInitializer(() -> {
+        var pathWriter = PathWriter.objectInitializer(binding -> {
+			LazySupplier<Collection<Object>> list = binding.slot(listSlot);
 			Collection<Object> value = list.get();
 			if (!value.isEmpty()) {
 				list.reset(ArrayList::new);
 			}
-			FieldAccessor.of(field, parent.get(), configuration).set(list.get());
+			accessor.set(parent.apply(binding), list.get());
             return list;
         });
         if (path.isRoot()) {
-            pathWriter.setRootInitializer(() -> {
-                FieldAccessor.of(field, parent.get(), configuration).set(list.get());
-                return parent.get();
+            pathWriter.setRootInitializer(binding -> {
+                LazySupplier<Collection<Object>> list = binding.slot(listSlot);
+                accessor.set(parent.apply(binding), list.get());
+                return parent.apply(binding);
             });
         }
         index.put(path, pathWriter);
 
-        indexListTypeArgument(path, field, index, list);
+        indexListTypeArgument(path, field, index, listSlot);
     }
 
-    private void indexListTypeArgument(Path path, FieldReflector field, PathWriterIndex index, LazySupplier<Collection<Object>> list) {
-        Type actualTypeArgument = ((ParameterizedType) field.genericType()).getActualTypeArguments()[0];
-        Class<?> typeArgument = (Class<?>) actualTypeArgument;
+    private void indexListTypeArgument(Path path, FieldReflector field, PathWriterIndex index, int listSlot) {
+        Class<?> typeArgument = field.typeArgument(0);
         if (TypeMappers.TYPES.contains(typeArgument)) {
-            indexSimpleTypeListTypeArgument(path, index, list, field, typeArgument);
+            indexSimpleTypeListTypeArgument(path, index, listSlot, field, typeArgument);
         } else {
-            indexComplexListTypeArgument(index, list, typeArgument, field);
+            indexComplexListTypeArgument(index, listSlot, typeArgument, field);
         }
     }
 
-    private void indexSimpleTypeListTypeArgument(Path path, PathWriterIndex index, LazySupplier<Collection<Object>> list, FieldReflector field, Class<?> typeArgument) {
+    private void indexSimpleTypeListTypeArgument(Path path, PathWriterIndex index, int listSlot, FieldReflector field, Class<?> typeArgument) {
         Tag tag = field.getAnnotation(Tag.class);
+        Function<Object, Object> mapper = TypeMappers.forType(typeArgument, configuration);
         index.put(path.append(Path.parse(tag.items())),
-                PathWriter.valueInitializer((o) -> list.get().add(TypeMappers.forType(typeArgument, configuration).apply(o))));
+                PathWriter.valueInitializer((binding, o) -> binding.<LazySupplier<Collection<Object>>>slot(listSlot).get()
+                        .add(mapper.apply(o)))
+                        .setReadsTextInPlace(TypeMappers.readsTextInPlace(typeArgument)));
     }
 
-    private void indexComplexListTypeArgument(PathWriterIndex index, LazySupplier<Collection<Object>> list, Class<?> typeArgument, FieldReflector field) {
-        Supplier<Object> listTypeInstanceSupplier = collectionSupplierForType(typeArgument);
+    private void indexComplexListTypeArgument(PathWriterIndex index, int listSlot, Class<?> typeArgument, FieldReflector field) {
+        Function<Binding, Object> listTypeInstanceSupplier = collectionSupplierForType(typeArgument);
         Tag tag = field.getAnnotation(Tag.class);
         if (tag.items().isBlank()) {
             throw new XjxDeserializationException(
@@ -308,20 +343,32 @@ public class PathWriterIndexFactory {
                    the tag name of a single repeated tag""".formatted(typeArgument.getSimpleName() ));
         }
         Path path = Path.parse(tag.path()).append(Path.parse(tag.items()));
-        index.put(path, PathWriter.objectInitializer(() -> {
-            collectionCacheType.clear();
-            Object listTypeInstance = listTypeInstanceSupplier.get();
-            list.get().add(listTypeInstance);
+        index.put(path, PathWriter.objectInitializer(binding -> {
+            binding.collectionCacheType().clear();
+            Object listTypeInstance = listTypeInstanceSupplier.apply(binding);
+            binding.<LazySupplier<Collection<Object>>>slot(listSlot).get().add(listTypeInstance);
             return listTypeInstance;
-        }).setValueInitializer((value) -> {
+        }).setValueInitializer((binding, value) -> {
+			LazySupplier<Collection<Object>> list = binding.slot(listSlot);
 			if (value instanceof RecordWrapper<?> recordWrapperValue) {
-				list.get().remove(recordWrapperValue);
-				list.get().add(recordWrapperValue.record());
+				replaceWithRecord(list.get(), recordWrapperValue);
 			}
 		}));
         doBuildIndex(typeArgument, path, index, listTypeInstanceSupplier);
     }
 
+    /**
+     * Replaces the wrapper of a list item by the record it built, the wrapper being the last item added to a list.
+     */
+    private static void replaceWithRecord(Collection<Object> collection, RecordWrapper<?> recordWrapper) {
+        if (collection instanceof List<Object> list && !list.isEmpty() && list.get(list.size() - 1) == recordWrapper) {
+            list.set(list.size() - 1, recordWrapper.record());
+        } else {
+            collection.remove(recordWrapper);
+            collection.add(recordWrapper.record());
+        }
+    }
+
     private Path getPathForField(FieldReflector field, Path path) {
         Tag tag = field.getAnnotation(Tag.class);
         if (tag != null) {
@@ -350,4 +397,7 @@ public class PathWriterIndexFactory {
 
         return path.append(field.name());
     }
+
+    private record IndexKey(Class<?> type, String rootTag) {
+    }
 }
@@ -1,64 +1,31 @@
 package io.jonasg.xjx.serdes.deserialize;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
-import java.util.Map;
+import io.jonasg.xjx.serdes.reflector.RecordReflector;
 
+/**
+ * Collects the components of a record while its tags are read, the record is only constructed once all are known.
+ * Components are stored by their position in the canonical constructor, those never set keep their default value.
+ */
 public class RecordWrapper<T> {
-	private final Map<String, Object> fieldMapping = new HashMap<>();
 
-	private final Class<T> type;
+	private final RecordReflector<T> recordReflector;
+
+	private final Object[] components;
 
 	public RecordWrapper(Class<T> type) {
-		this.type = type;
+		this.recordReflector = RecordReflector.reflect(type);
+		this.components = recordReflector.newArguments();
 	}
 
-	public void set(String name, Object value) {
-		this.fieldMapping.put(name, value);
+	/**
+	 * @param index the position of the component as returned by {@link RecordReflector#componentIndex(String)}
+	 */
+	public void set(int index, Object value) {
+		this.components[index] = value == null ? recordReflector.defaultValue(index) : value;
 	}
 
-	@SuppressWarnings("unchecked")
 	public T record() {
-		try {
-			Constructor<?>[] constructors = type.getDeclaredConstructors();
-
-			Constructor<?> constructor = constructors[0];
-			constructor.setAccessible(true);
-
-			Object[] args = new Object[constructor.getParameterCount()];
-			var parameters = constructor.getParameters();
-			for (int i = 0; i < parameters.length; i++) {
-				String paramName = parameters[i].getName();
-				Class<?> paramType = parameters[i].getType();
-				Object paramValue = fieldMapping.get(paramName);
-				if (paramValue != null) {
-					args[i] = paramValue;
-				}
-				else {
-					if (paramType == boolean.class) {
-						args[i] = false;
-					}
-					else if (paramType == long.class) {
-						args[i] = 0;
-					}
-					else if (paramType == double.class) {
-						args[i] = 0;
-					}
-					else if (paramType == char.class) {
-						args[i] = '\000';
-					}
-					else {
-						args[i] = null;
-					}
-				}
-			}
-
-			return (T) constructor.newInstance(args);
-
-		}
-		catch (Exception e) {
-			throw new RuntimeException("Error creating record", e);
-		}
+		return recordReflector.newInstance(components);
 	}
 
 }
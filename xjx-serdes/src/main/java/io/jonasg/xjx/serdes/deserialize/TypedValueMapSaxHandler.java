@@ -3,6 +3,7 @@ package io.jonasg.xjx.serdes.deserialize;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import io.jonasg.xjx.sax.Attribute;
 import io.jonasg.xjx.sax.SaxHandler;
@@ -10,7 +11,7 @@ import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
 
 public class TypedValueMapSaxHandler implements SaxHandler {
 
-	private final Class<?> valueType;
+	private final Function<String, PathWriterIndex> valueIndex;
 
 	private final XjxConfiguration configuration;
 
@@ -20,9 +21,9 @@ public class TypedValueMapSaxHandler implements SaxHandler {
 
     private String activeKey;
 
-	public TypedValueMapSaxHandler(MapWithTypeInfo instance, XjxConfiguration configuration) {
+	TypedValueMapSaxHandler(MapWithTypeInfo instance, XjxConfiguration configuration) {
 		this.instance = instance.map();
-        this.valueType = instance.valueType();
+        this.valueIndex = instance.valueIndex();
 		this.configuration = configuration;
 	}
 
@@ -34,8 +35,7 @@ public class TypedValueMapSaxHandler implements SaxHandler {
     public void startTag(String namespace, String name, List<Attribute> attributes) {
         if (this.activeKey == null) {
             this.activeKey = name;
-            objectPathBasedSaxHandler = new PathBasedSaxHandler<>(rootTag ->
-                    new PathWriterIndexFactory(configuration).createIndexForType(valueType, this.activeKey), this.activeKey, configuration);
+            objectPathBasedSaxHandler = new PathBasedSaxHandler<>(valueIndex, this.activeKey, configuration);
         } else {
             objectPathBasedSaxHandler.startTag(namespace, name, attributes);
         }
@@ -1,32 +1,41 @@
 package io.jonasg.xjx.serdes.deserialize;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 
-public class ValueDeserializationHandler {
+import io.jonasg.xjx.serdes.reflector.FieldReflector;
 
-    private static ValueDeserializationHandler instance;
+/**
+ * Resolves the {@link ValueDeserializer} of fields annotated with {@link ValueDeserialization}.
+ * <p>
+ * A single instance of every deserializer class is created and shared by all fields and reads using it,
+ * deserializers should therefore be stateless.
+ */
+public class ValueDeserializationHandler {
 
-    public static ValueDeserializationHandler getInstance() {
-        if (instance == null) {
-            instance = new ValueDeserializationHandler();
-        }
-        return instance;
-    }
+    private static final ValueDeserializationHandler INSTANCE = new ValueDeserializationHandler();
 
-    public Optional<Object> handle(Field field, String value) {
-        ValueDeserialization valueDeserialization = field.getAnnotation(ValueDeserialization.class);
-        if (valueDeserialization != null) {
+    private final ClassValue<ValueDeserializer<?>> deserializers = new ClassValue<>() {
+        @Override
+        protected ValueDeserializer<?> computeValue(Class<?> type) {
             try {
-                var valueDeserializer = valueDeserialization.value().getConstructor().newInstance();
-                return Optional.of(valueDeserializer.deserializer(value));
+                return (ValueDeserializer<?>) type.getConstructor().newInstance();
             } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
                      IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
-
         }
-        return Optional.empty();
+    };
+
+    public static ValueDeserializationHandler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the deserializer of the field or empty when the field is not annotated with {@link ValueDeserialization}
+     */
+    public Optional<ValueDeserializer<?>> deserializerFor(FieldReflector field) {
+        return Optional.ofNullable(field.getAnnotation(ValueDeserialization.class))
+                .map(valueDeserialization -> deserializers.get(valueDeserialization.value()));
     }
 }
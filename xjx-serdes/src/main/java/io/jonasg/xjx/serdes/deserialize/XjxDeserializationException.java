@@ -4,4 +4,8 @@ public class XjxDeserializationException extends RuntimeException {
     public XjxDeserializationException(String message) {
         super(message);
     }
+
+    public XjxDeserializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -1,25 +1,37 @@
 package io.jonasg.xjx.serdes.deserialize.accessor;
 
+import java.util.function.Function;
+
 import io.jonasg.xjx.serdes.TypeMappers;
-import io.jonasg.xjx.serdes.deserialize.RecordWrapper;
 import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
 import io.jonasg.xjx.serdes.reflector.FieldReflector;
 
+/**
+ * Writes a value to a field of any instance of the field's declaring class.
+ * <p>
+ * Accessors are resolved once per field, when the index is built, instead of once per value written.
+ */
 public interface FieldAccessor {
 
-    static FieldAccessor of(FieldReflector field, Object instance, XjxConfiguration configuration) {
-		if (instance instanceof RecordWrapper<?> recordWrapper) {
-			return new RecordFieldAccessor(field, recordWrapper, configuration);
-		} else {
-			var setterFieldAccessor = new SetterFieldAccessor(field, instance);
-			if (setterFieldAccessor.hasSetterForField()) {
-				return new SetterFieldAccessor(field, instance);
-			}
-			var mapper = TypeMappers.forType(field.type(), configuration);
-			return new ReflectiveFieldAccessor(field, instance, mapper);
-		}
+    static FieldAccessor of(FieldReflector field, XjxConfiguration configuration) {
+        Function<Object, Object> mapper = TypeMappers.forType(field.type(), configuration);
+        if (field.rawField().getDeclaringClass().isRecord()) {
+            return new RecordFieldAccessor(field, mapper);
+        }
+        var setterFieldAccessor = new SetterFieldAccessor(field, mapper);
+        if (setterFieldAccessor.hasSetterForField()) {
+            return setterFieldAccessor;
+        }
+        var primitiveFieldAccessor = PrimitiveFieldAccessor.of(field, mapper);
+        if (primitiveFieldAccessor != null) {
+            return primitiveFieldAccessor;
+        }
+        return new ReflectiveFieldAccessor(field, mapper);
     }
 
-    void set(Object value);
+    /**
+     * @param instance the instance to write to, a {@link io.jonasg.xjx.serdes.deserialize.RecordWrapper} for record fields
+     */
+    void set(Object instance, Object value);
 
 }
@@ -0,0 +1,171 @@
+package io.jonasg.xjx.serdes.deserialize.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import io.jonasg.xjx.serdes.TextParsers;
+import io.jonasg.xjx.serdes.reflector.FieldReflector;
+
+/**
+ * Writes text values to primitive fields without boxing them, the text is parsed into a primitive
+ * that is written through a setter {@link MethodHandle} of type {@code (Object, primitive)void}.
+ * The handle is invoked exactly, so no argument is adapted or boxed on the way to the field. The text is parsed
+ * straight from the {@link CharSequence} the handler reuses for the text of every element, without copying it into
+ * a {@link String}.
+ * <p>
+ * Values that are not text, such as those returned by a custom value deserializer, are mapped and written
+ * like any other field.
+ */
+public abstract class PrimitiveFieldAccessor implements FieldAccessor {
+
+    protected final MethodHandle setter;
+
+    private final FieldReflector field;
+
+    private final Function<Object, Object> mapper;
+
+    private PrimitiveFieldAccessor(FieldReflector field, Function<Object, Object> mapper) {
+        this.field = field;
+        this.mapper = mapper;
+        this.setter = setter(field.rawField());
+    }
+
+    /**
+     * @return an accessor for the field or null when the field is not a supported primitive, or can not be written
+     * through a setter handle because it is final or static
+     */
+    public static PrimitiveFieldAccessor of(FieldReflector field, Function<Object, Object> mapper) {
+        int modifiers = field.rawField().getModifiers();
+        if (Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+            return null;
+        }
+        Class<?> type = field.type();
+        if (type == int.class) {
+            return new IntSink(field, mapper);
+        } else if (type == long.class) {
+            return new LongSink(field, mapper);
+        } else if (type == double.class) {
+            return new DoubleSink(field, mapper);
+        } else if (type == boolean.class) {
+            return new BooleanSink(field, mapper);
+        } else if (type == char.class) {
+            return new CharSink(field, mapper);
+        }
+        return null;
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        if (value instanceof CharSequence text) {
+            write(instance, text);
+        } else {
+            field.set(instance, mapper.apply(value));
+        }
+    }
+
+    protected abstract void write(Object instance, CharSequence text);
+
+    private static final class IntSink extends PrimitiveFieldAccessor {
+
+        private IntSink(FieldReflector field, Function<Object, Object> mapper) {
+            super(field, mapper);
+        }
+
+        @Override
+        protected void write(Object instance, CharSequence text) {
+            try {
+                setter.invokeExact(instance, TextParsers.parseInt(text));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class LongSink extends PrimitiveFieldAccessor {
+
+        private LongSink(FieldReflector field, Function<Object, Object> mapper) {
+            super(field, mapper);
+        }
+
+        @Override
+        protected void write(Object instance, CharSequence text) {
+            try {
+                setter.invokeExact(instance, TextParsers.parseLong(text));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class DoubleSink extends PrimitiveFieldAccessor {
+
+        private DoubleSink(FieldReflector field, Function<Object, Object> mapper) {
+            super(field, mapper);
+        }
+
+        @Override
+        protected void write(Object instance, CharSequence text) {
+            try {
+                setter.invokeExact(instance, TextParsers.parseDouble(text));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class BooleanSink extends PrimitiveFieldAccessor {
+
+        private BooleanSink(FieldReflector field, Function<Object, Object> mapper) {
+            super(field, mapper);
+        }
+
+        @Override
+        protected void write(Object instance, CharSequence text) {
+            try {
+                setter.invokeExact(instance, TextParsers.parseBoolean(text));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class CharSink extends PrimitiveFieldAccessor {
+
+        private CharSink(FieldReflector field, Function<Object, Object> mapper) {
+            super(field, mapper);
+        }
+
+        @Override
+        protected void write(Object instance, CharSequence text) {
+            try {
+                setter.invokeExact(instance, text.charAt(0));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
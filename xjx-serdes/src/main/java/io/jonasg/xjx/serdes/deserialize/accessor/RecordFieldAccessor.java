@@ -1,27 +1,24 @@
 package io.jonasg.xjx.serdes.deserialize.accessor;
 
-import io.jonasg.xjx.serdes.TypeMappers;
+import java.util.function.Function;
+
 import io.jonasg.xjx.serdes.deserialize.RecordWrapper;
-import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
 import io.jonasg.xjx.serdes.reflector.FieldReflector;
+import io.jonasg.xjx.serdes.reflector.RecordReflector;
 
 public class RecordFieldAccessor implements FieldAccessor {
 
-	private final FieldReflector field;
-
-	private final RecordWrapper recordWrapper;
+	private final int componentIndex;
 
-	private final XjxConfiguration configuration;
+	private final Function<Object, Object> mapper;
 
-	public RecordFieldAccessor(FieldReflector field, RecordWrapper recordWrapper, XjxConfiguration configuration) {
-		this.field = field;
-		this.recordWrapper = recordWrapper;
-		this.configuration = configuration;
+	public RecordFieldAccessor(FieldReflector field, Function<Object, Object> mapper) {
+		this.componentIndex = RecordReflector.reflect(field.rawField().getDeclaringClass()).componentIndex(field.name());
+		this.mapper = mapper;
 	}
 
 	@Override
-	public void set(Object value) {
-		Object mappedValue = TypeMappers.forType(field.type(), configuration).apply(value);
-		recordWrapper.set(field.rawField().getName(), mappedValue);
+	public void set(Object instance, Object value) {
+		((RecordWrapper<?>) instance).set(componentIndex, mapper.apply(value));
 	}
 }
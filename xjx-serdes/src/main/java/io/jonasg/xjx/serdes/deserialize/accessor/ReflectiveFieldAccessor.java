@@ -7,17 +7,15 @@ import io.jonasg.xjx.serdes.reflector.FieldReflector;
 public class ReflectiveFieldAccessor implements FieldAccessor {
 
     private final FieldReflector field;
-    private final Object instance;
     private final Function<Object, Object> mapper;
 
-    public ReflectiveFieldAccessor(FieldReflector field, Object instance, Function<Object, Object> mapper) {
+    public ReflectiveFieldAccessor(FieldReflector field, Function<Object, Object> mapper) {
         this.field = field;
-        this.instance = instance;
         this.mapper = mapper;
     }
 
     @Override
-    public void set(Object value) {
+    public void set(Object instance, Object value) {
         field.set(instance, mapper.apply(value));
     }
 }
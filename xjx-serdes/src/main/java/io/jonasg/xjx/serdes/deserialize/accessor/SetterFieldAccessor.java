@@ -1,36 +1,51 @@
 package io.jonasg.xjx.serdes.deserialize.accessor;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.function.Function;
 
 import io.jonasg.xjx.serdes.reflector.FieldReflector;
 
 public class SetterFieldAccessor implements FieldAccessor {
 
-    private final Object instance;
+    private final MethodHandle setter;
 
-    private final Method method;
+    private final Function<Object, Object> mapper;
 
-    public SetterFieldAccessor(FieldReflector field, Object instance) {
+    public SetterFieldAccessor(FieldReflector field, Function<Object, Object> mapper) {
         String name = field.name();
-        this.instance = instance;
-        this.method = Arrays.stream(instance.getClass().getMethods())
-                .filter(method -> method.getName().equals("set" + name.substring(0, 1).toUpperCase() + name.substring(1)))
+        String setterName = "set" + name.substring(0, 1).toUpperCase() + name.substring(1);
+        Method method = Arrays.stream(field.rawField().getDeclaringClass().getMethods())
+                .filter(m -> m.getName().equals(setterName) && m.getParameterCount() == 1)
                 .findFirst()
                 .orElse(null);
+        this.setter = method == null ? null : unreflect(method);
+        this.mapper = mapper;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(FieldReflector.SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
-    public void set(Object value) {
+    public void set(Object instance, Object value) {
         try {
-            method.invoke(instance, value);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+            setter.invokeExact(instance, mapper.apply(value));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
 
     public boolean hasSetterForField() {
-        return method != null;
+        return setter != null;
     }
 }
@@ -21,4 +21,18 @@ public class ConfigurationBuilder {
 		this.xjxConfiguration.failOnUnknownEnumValue = failOnUnmappableEnumValue;
 		return this;
 	}
+
+	/**
+	 * Configures the {@link XjxSerdes} to stop parsing a document as soon as every mapped value of the target type has
+	 * been read, instead of reading up to the end of the document.
+	 * Only applies to types without collection or map fields, as these can receive values up to the end of the document.
+	 * Values are no longer overwritten by later occurrences of the same path, the first occurrence is kept.
+	 * When not set, defaults to false.
+	 * @param stopParsingWhenComplete Whether to stop parsing once every mapped value has been read
+	 * @return The ConfigurationBuilder
+	 */
+	public ConfigurationBuilder stopParsingWhenComplete(boolean stopParsingWhenComplete) {
+		this.xjxConfiguration.stopParsingWhenComplete = stopParsingWhenComplete;
+		return this;
+	}
 }
@@ -8,7 +8,17 @@ public class XjxConfiguration {
 	 */
 	boolean failOnUnknownEnumValue = false;
 
+	/**
+	 * Whether to stop parsing as soon as every mapped value has been read.
+	 * Defaults to false and will read the whole document.
+	 */
+	boolean stopParsingWhenComplete = false;
+
 	public boolean failOnUnknownEnumValue() {
 		return this.failOnUnknownEnumValue;
 	}
+
+	public boolean stopParsingWhenComplete() {
+		return this.stopParsingWhenComplete;
+	}
 }
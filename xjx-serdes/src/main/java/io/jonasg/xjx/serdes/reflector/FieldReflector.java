@@ -1,34 +1,119 @@
 package io.jonasg.xjx.serdes.reflector;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.StringJoiner;
 
 public class FieldReflector {
 
+    /**
+     * Type every field setter is adapted to, so it can be invoked exactly without knowing the field's type.
+     */
+    public static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Type[] NO_TYPE_ARGUMENTS = new Type[0];
+
     private final Field field;
 
+    private final String name;
+
+    private final Class<?> type;
+
+    private final Type genericType;
+
+    private final Type[] typeArguments;
+
+    private final Annotation[] annotations;
+
+    private volatile MethodHandle getter;
+
+    private volatile MethodHandle setter;
+
     public FieldReflector(Field field) {
         this.field = field;
+        this.name = field.getName();
+        this.type = field.getType();
+        this.genericType = field.getGenericType();
+        this.typeArguments = genericType instanceof ParameterizedType parameterizedType
+                ? parameterizedType.getActualTypeArguments()
+                : NO_TYPE_ARGUMENTS;
+        this.annotations = field.getDeclaredAnnotations();
     }
 
     public String name() {
-        return field.getName();
+        return name;
     }
 
     public <T> void set(T instance, Object value) {
         try {
-            field.setAccessible(true);
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
+            setter().invokeExact((Object) instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Object get(Object instance) {
+        try {
+            return (Object) getter().invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * @return a handle writing this field, of type {@link #SETTER_TYPE}, resolved on first use
+     */
+    public MethodHandle setter() {
+        MethodHandle handle = setter;
+        if (handle == null) {
+            try {
+                field.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(SETTER_TYPE);
+            setter = handle;
+        }
+        return handle;
+    }
+
+    private MethodHandle getter() {
+        MethodHandle handle = getter;
+        if (handle == null) {
+            try {
+                field.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectGetter(field);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(GETTER_TYPE);
+            getter = handle;
+        }
+        return handle;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> Class<T> type() {
-        return (Class<T>) field.getType();
+        return (Class<T>) type;
     }
 
     public boolean isOfType(Class<?> type) {
@@ -40,19 +125,31 @@ public class FieldReflector {
     }
 
     public Type genericType() {
-        return field.getGenericType();
+        return genericType;
+    }
+
+    /**
+     * @return the class of the generic type argument at the given index, for example the value type of a Map field at index 1
+     */
+    public Class<?> typeArgument(int index) {
+        return (Class<?>) typeArguments[index];
     }
 
     public <T extends Annotation> T getAnnotation(Class<T> clazz) {
-        return field.getAnnotation(clazz);
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType() == clazz) {
+                return clazz.cast(annotation);
+            }
+        }
+        return null;
     }
 
     public <T extends Annotation> boolean hasAnnotation(Class<T> annotation) {
-        return field.getAnnotation(annotation) != null;
+        return getAnnotation(annotation) != null;
     }
 
 	public boolean isRecord() {
-		return field.getType().isRecord();
+		return type.isRecord();
 	}
 
     @Override
@@ -21,14 +21,7 @@ public class InstanceField {
     }
 
     public Object getValue() {
-        try {
-            fieldReflector.rawField().setAccessible(true);
-            Object value = fieldReflector.rawField().get(instance);
-            fieldReflector.rawField().setAccessible(false);
-            return value;
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return fieldReflector.get(instance);
     }
 
     public Class<?> type() {
@@ -1,8 +1,5 @@
 package io.jonasg.xjx.serdes.reflector;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -16,7 +13,7 @@ public class InstanceReflector<T> {
     public InstanceReflector(Class<T> type, TypeReflector<T> typeReflector) {
         this.type = type;
         this.typeReflector = typeReflector;
-        this.instance = newInstance();
+        this.instance = typeReflector.newInstance();
     }
 
     @SuppressWarnings("unchecked")
@@ -26,29 +23,6 @@ public class InstanceReflector<T> {
         this.instance = instance;
     }
 
-    @SuppressWarnings("unchecked")
-    private T newInstance() {
-        Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors())
-                .filter(c -> c.getParameters().length == 0)
-                .findFirst()
-                .orElseThrow();
-        try {
-            return (T) constructor.newInstance();
-        } catch (InvocationTargetException | InstantiationException e) {
-            throw new RuntimeException(e);
-        } catch (IllegalAccessException e) {
-            constructor.setAccessible(true);
-            T instance;
-            try {
-                instance = (T) constructor.newInstance();
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-                throw new RuntimeException(ex);
-            }
-            constructor.setAccessible(false);
-            return instance;
-        }
-    }
-
     public void setField(String fieldName, Object value) {
         typeReflector.field(fieldName)
                 .ifPresent(f -> f.set(instance, value));
@@ -0,0 +1,118 @@
+package io.jonasg.xjx.serdes.reflector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The canonical constructor of a record type, together with the index and default value of each of its components.
+ * Resolved once per record type.
+ */
+public class RecordReflector<T> {
+
+    private static final ClassValue<RecordReflector<?>> REFLECTORS = new ClassValue<>() {
+        @Override
+        protected RecordReflector<?> computeValue(Class<?> type) {
+            return new RecordReflector<>(type);
+        }
+    };
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandle constructor;
+
+    private final Map<String, Integer> componentIndexes = new HashMap<>();
+
+    private final Object[] defaults;
+
+    private RecordReflector(Class<T> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        this.defaults = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            componentTypes[i] = components[i].getType();
+            componentIndexes.put(components[i].getName(), i);
+            defaults[i] = defaultValue(componentTypes[i]);
+        }
+        try {
+            Constructor<T> canonicalConstructor = type.getDeclaredConstructor(componentTypes);
+            canonicalConstructor.setAccessible(true);
+            this.constructor = MethodHandles.lookup().unreflectConstructor(canonicalConstructor)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Failed to resolve the canonical constructor of " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RecordReflector<T> reflect(Class<T> type) {
+        return (RecordReflector<T>) REFLECTORS.get(type);
+    }
+
+    /**
+     * @return the position of the component in the canonical constructor or -1 when the record has no such component
+     */
+    public int componentIndex(String name) {
+        Integer index = componentIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return the default value of the component at the given index, null unless the component is a primitive
+     */
+    public Object defaultValue(int index) {
+        return defaults[index];
+    }
+
+    /**
+     * @return constructor arguments with every component set to its default value
+     */
+    public Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object[] arguments) {
+        try {
+            return (T) constructor.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new RuntimeException("Error creating record", e);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\000';
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        return 0d;
+    }
+}
@@ -7,6 +7,6 @@ public class Reflector {
     }
 
     public static <T> TypeReflector<T> reflect(Class<T> type) {
-        return new TypeReflector<>(type);
+        return TypeReflector.reflect(type);
     }
 }
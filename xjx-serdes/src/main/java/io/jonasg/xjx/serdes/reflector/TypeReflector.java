@@ -1,33 +1,109 @@
 package io.jonasg.xjx.serdes.reflector;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
+/**
+ * Reflected metadata of a type, resolved once per type and shared by every serialization and deserialization.
+ */
 public class TypeReflector<T> {
 
+    private static final ClassValue<TypeReflector<?>> REFLECTORS = new ClassValue<>() {
+        @Override
+        protected TypeReflector<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
     private final Class<T> clazz;
 
     private final List<FieldReflector> fields;
 
+    private final Map<String, FieldReflector> fieldsByName;
+
+    private volatile MethodHandle constructor;
+
+    /**
+     * Creates a reflector sharing the metadata cached for the type.
+     * @deprecated use {@link #reflect(Class)}, which returns the cached reflector itself
+     */
+    @Deprecated
     public TypeReflector(Class<T> clazz) {
+        this(reflect(clazz));
+    }
+
+    private TypeReflector(TypeReflector<T> reflector) {
+        this(reflector.clazz, reflector.fields, reflector.fieldsByName);
+        this.constructor = reflector.constructor;
+    }
+
+    private TypeReflector(Class<T> clazz, List<FieldReflector> fields, Map<String, FieldReflector> fieldsByName) {
         this.clazz = clazz;
-        this.fields = Arrays.stream(clazz.getDeclaredFields()).map(FieldReflector::new).toList();
+        this.fields = fields;
+        this.fieldsByName = fieldsByName;
+    }
+
+    private static <T> TypeReflector<T> create(Class<T> clazz) {
+        List<FieldReflector> fields = Arrays.stream(clazz.getDeclaredFields()).map(FieldReflector::new).toList();
+        Map<String, FieldReflector> fieldsByName = new HashMap<>();
+        fields.forEach(f -> fieldsByName.putIfAbsent(f.name(), f));
+        return new TypeReflector<>(clazz, fields, fieldsByName);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> TypeReflector<T> reflect(Class<T> clazz) {
-        return new TypeReflector<>(clazz);
+        return (TypeReflector<T>) REFLECTORS.get(clazz);
     }
 
     public InstanceReflector<T> instanceReflector() {
         return new InstanceReflector<>(clazz, this);
     }
 
+    /**
+     * Creates an instance through the no-args constructor, which is resolved on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() {
+        try {
+            return (T) constructor().invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private MethodHandle constructor() {
+        MethodHandle handle = constructor;
+        if (handle == null) {
+            Constructor<?> noArgsConstructor = Arrays.stream(clazz.getDeclaredConstructors())
+                    .filter(c -> c.getParameterCount() == 0)
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchElementException("No no-args constructor found for " + clazz.getName()));
+            try {
+                noArgsConstructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(noArgsConstructor).asType(CONSTRUCTOR_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            constructor = handle;
+        }
+        return handle;
+    }
+
     public Optional<FieldReflector> field(String fieldName) {
-        return this.fields.stream()
-                .filter(f -> f.name().equals(fieldName))
-                .findFirst();
+        return Optional.ofNullable(this.fieldsByName.get(fieldName));
     }
 
     public List<FieldReflector> fields() {
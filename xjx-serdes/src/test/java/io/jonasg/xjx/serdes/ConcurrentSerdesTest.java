@@ -0,0 +1,200 @@
+package io.jonasg.xjx.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentSerdesTest {
+
+    private static final int THREADS = 16;
+
+    private static final int ITERATIONS = 200;
+
+    private static final int DOCUMENTS = 8;
+
+    @Test
+    void readConcurrentlyWithOneInstance() throws Exception {
+        // given
+        var xjx = new XjxSerdes();
+        List<String> documents = new ArrayList<>();
+        List<Order> expected = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents.add(order(i));
+            expected.add(new XjxSerdes().read(documents.get(i), Order.class));
+        }
+        assertThat(expected.get(3).id).isEqualTo("order-3");
+        assertThat(expected.get(3).customer).isEqualTo(new Customer("customer-3"));
+        assertThat(expected.get(3).status).isEqualTo(Status.SHIPPED);
+        assertThat(expected.get(3).total).isEqualTo(3.5);
+        assertThat(expected.get(3).lines).hasSize(4).contains(new Line("sku-3-3", 4));
+        assertThat(expected.get(3).tags).containsExactlyInAnyOrder("tag-3", "shared");
+        assertThat(expected.get(3).notes.get("Second").text).isEqualTo("second-3");
+
+        // when
+        List<List<Order>> results = runConcurrently(thread -> {
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                orders.add(xjx.read(documents.get((thread + i) % DOCUMENTS), Order.class));
+            }
+            return orders;
+        });
+
+        // then
+        for (int thread = 0; thread < THREADS; thread++) {
+            List<Order> orders = results.get(thread);
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertThat(orders.get(i))
+                        .usingRecursiveComparison()
+                        .isEqualTo(expected.get((thread + i) % DOCUMENTS));
+            }
+        }
+    }
+
+    @Test
+    void writeConcurrentlyWithOneInstance() throws Exception {
+        // given
+        var xjx = new XjxSerdes();
+        List<Invoice> invoices = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            invoices.add(new Invoice("invoice-" + i, "customer-" + i, (long) i * 100));
+            expected.add(new XjxSerdes().write(invoices.get(i)));
+        }
+
+        // when
+        List<List<String>> results = runConcurrently(thread -> {
+            List<String> documents = new ArrayList<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                documents.add(xjx.write(invoices.get((thread + i) % DOCUMENTS)));
+            }
+            return documents;
+        });
+
+        // then
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertThat(results.get(thread).get(i)).isEqualTo(expected.get((thread + i) % DOCUMENTS));
+            }
+        }
+    }
+
+    /**
+     * Runs the task on every thread at once, released together to maximize contention.
+     */
+    private static <R> List<R> runConcurrently(ThreadTask<R> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var start = new CountDownLatch(1);
+            List<Future<R>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadNumber = thread;
+                futures.add(executor.submit((Callable<R>) () -> {
+                    start.await();
+                    return task.run(threadNumber);
+                }));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String order(int number) {
+        var lines = new StringBuilder();
+        for (int i = 0; i <= number; i++) {
+            lines.append("<Line><Sku>sku-%d-%d</Sku><Quantity>%d</Quantity></Line>".formatted(number, i, i + 1));
+        }
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Order id="order-%d">
+                    <Customer><Name>customer-%d</Name></Customer>
+                    <Status>%s</Status>
+                    <Total>%d.5</Total>
+                    <Lines>%s</Lines>
+                    <Tags><Tag>tag-%d</Tag><Tag>shared</Tag></Tags>
+                    <Notes><First><Text>first-%d</Text></First><Second><Text>second-%d</Text></Second></Notes>
+                </Order>
+                """.formatted(number, number, Status.values()[number % 2], number, lines, number, number, number);
+    }
+
+    enum Status {
+        OPEN, SHIPPED
+    }
+
+    public static class Order {
+        @Tag(path = "/Order", attribute = "id")
+        String id;
+
+        @Tag(path = "/Order/Customer")
+        Customer customer;
+
+        @Tag(path = "/Order/Status")
+        Status status;
+
+        @Tag(path = "/Order/Total")
+        double total;
+
+        @Tag(path = "/Order/Lines", items = "Line")
+        List<Line> lines;
+
+        @Tag(path = "/Order/Tags", items = "Tag")
+        Set<String> tags;
+
+        @Tag(path = "/Order/Notes")
+        Map<String, Note> notes;
+
+        public Order() {
+        }
+    }
+
+    record Customer(@Tag(path = "Name") String name) {
+    }
+
+    record Line(@Tag(path = "Sku") String sku, @Tag(path = "Quantity") int quantity) {
+    }
+
+    public static class Note {
+        @Tag(path = "Text")
+        String text;
+
+        public Note() {
+        }
+    }
+
+    public static class Invoice {
+        @Tag(path = "/Invoice/Number")
+        String number;
+
+        @Tag(path = "/Invoice/Customer", attribute = "name")
+        String customer;
+
+        @Tag(path = "/Invoice/Amount")
+        Long amount;
+
+        public Invoice(String number, String customer, Long amount) {
+            this.number = number;
+            this.customer = customer;
+            this.amount = amount;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask<R> {
+        R run(int thread) throws Exception;
+    }
+}
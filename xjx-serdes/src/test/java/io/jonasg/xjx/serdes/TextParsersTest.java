@@ -0,0 +1,135 @@
+package io.jonasg.xjx.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TextParsersTest {
+
+    @Nested
+    class Numbers {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0", "7", "-7", "+7", "0042", "123456789", "2147483647", "-2147483648", "00000000000000000001"})
+        void parseIntLikeTheJdk(String text) {
+            assertThat(TextParsers.parseInt(text)).isEqualTo(Integer.parseInt(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "-", "+", "2147483648", "-2147483649", "1.0", " 1", "1a"})
+        void failToParseIntLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseInt(text)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0", "-1", "123456789012345678", "9223372036854775807", "-9223372036854775808"})
+        void parseLongLikeTheJdk(String text) {
+            assertThat(TextParsers.parseLong(text)).isEqualTo(Long.parseLong(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "-", "9223372036854775808", "1.5"})
+        void failToParseLongLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseLong(text)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0", "-0", "0.1", "1.", ".5", "-3.14159", "+2.5", "123456.789012345", "0.30000000000000004",
+                "1e10", "1.5E-7", "NaN", "-Infinity", "12345678901234567890", "0.000000000000000000000001", "1d"})
+        void parseDoubleLikeTheJdk(String text) {
+            assertThat(Double.valueOf(TextParsers.parseDouble(text))).isEqualTo(Double.valueOf(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "-", ".", "1.2.3", "abc"})
+        void failToParseDoubleLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseDouble(text)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0", "-0", "1.50", "-1.50", "+3", ".5", "5.", "123456789.123456789", "1E+3", "99999999999999999999.9"})
+        void parseBigDecimalLikeTheJdk(String text) {
+            assertThat(TextParsers.parseBigDecimal(text)).isEqualTo(new BigDecimal(text));
+        }
+
+        @Test
+        void failToParseBigDecimalLikeTheJdk() {
+            assertThatThrownBy(() -> TextParsers.parseBigDecimal("1,5")).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void parseFromAnyCharSequence() {
+            assertThat(TextParsers.parseLong(new StringBuilder("-42"))).isEqualTo(-42L);
+            assertThat(TextParsers.parseDouble(new StringBuilder("4.2"))).isEqualTo(4.2);
+        }
+    }
+
+    @Nested
+    class Booleans {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"true", "TRUE", "True", "yes", "YES", "1"})
+        void parseTrue(String text) {
+            assertThat(TextParsers.parseBoolean(new StringBuilder(text))).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "false", "no", "0", "11", "truth", " true"})
+        void parseFalse(String text) {
+            assertThat(TextParsers.parseBoolean(new StringBuilder(text))).isFalse();
+        }
+    }
+
+    @Nested
+    class DatesAndTimes {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2024-02-29", "0001-01-01", "9999-12-31", "+10000-01-01"})
+        void parseLocalDateLikeTheJdk(String text) {
+            assertThat(TextParsers.parseLocalDate(text)).isEqualTo(LocalDate.parse(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2023-02-29", "2023-13-01", "2023/01/01", "2023-1-01"})
+        void failToParseLocalDateLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseLocalDate(text)).isInstanceOf(DateTimeException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2023-10-18T10:15", "2023-10-18T10:15:30", "2023-10-18T10:15:30.1",
+                "2023-10-18T10:15:30.123456789", "2023-10-18t10:15:30"})
+        void parseLocalDateTimeLikeTheJdk(String text) {
+            assertThat(TextParsers.parseLocalDateTime(text)).isEqualTo(LocalDateTime.parse(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2023-10-18T24:00", "2023-10-18T10:15:60", "2023-10-18T10:15:30.1234567891", "2023-10-18"})
+        void failToParseLocalDateTimeLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseLocalDateTime(text)).isInstanceOf(DateTimeException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2023-10-18T10:15:30Z", "2023-10-18T10:15:30+01:00", "2023-10-18T10:15:30.5-05:30",
+                "2023-10-18T10:15Z", "2023-10-18T10:15:30+00:00", "2023-10-18T10:15:30+01:00[Europe/Brussels]",
+                "2023-10-18T10:15:30+01:00:30"})
+        void parseZonedDateTimeLikeTheJdk(String text) {
+            assertThat(TextParsers.parseZonedDateTime(text)).isEqualTo(ZonedDateTime.parse(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2023-10-18T10:15:30", "2023-10-18T10:15:30+19:00", "2023-10-18T10:15:30+01:60"})
+        void failToParseZonedDateTimeLikeTheJdk(String text) {
+            assertThatThrownBy(() -> TextParsers.parseZonedDateTime(text)).isInstanceOf(DateTimeException.class);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.jonasg.xjx.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+
+class TypeMappersTest {
+
+    private final XjxConfiguration configuration = new XjxConfiguration();
+
+    @Test
+    void mapTextThatIsNotAString() {
+        // given
+        var text = new StringBuilder();
+
+        // when / then
+        assertThat(TypeMappers.forType(int.class, configuration).apply(text.append("42"))).isEqualTo(42);
+        text.setLength(0);
+        assertThat(TypeMappers.forType(Long.class, configuration).apply(text.append("-7"))).isEqualTo(-7L);
+        text.setLength(0);
+        assertThat(TypeMappers.forType(BigDecimal.class, configuration).apply(text.append("1.50"))).isEqualTo(new BigDecimal("1.50"));
+        text.setLength(0);
+        assertThat(TypeMappers.forType(double.class, configuration).apply(text.append("0.5"))).isEqualTo(0.5D);
+        text.setLength(0);
+        assertThat(TypeMappers.forType(boolean.class, configuration).apply(text.append("Yes"))).isEqualTo(true);
+        text.setLength(0);
+        assertThat(TypeMappers.forType(LocalDate.class, configuration).apply(text.append("2024-02-29"))).isEqualTo(LocalDate.of(2024, 2, 29));
+        text.setLength(0);
+        assertThat(TypeMappers.forType(Unit.class, configuration).apply(text.append("KG"))).isEqualTo(Unit.KG);
+    }
+
+    @Test
+    void mapTextToAStringThatOutlivesTheText() {
+        // given
+        var text = new StringBuilder("first");
+
+        // when
+        Object mapped = TypeMappers.forType(String.class, configuration).apply(text);
+        text.setLength(0);
+        text.append("second");
+
+        // then
+        assertThat(mapped).isEqualTo("first");
+    }
+
+    enum Unit {
+        KG, LB
+    }
+}
@@ -0,0 +1,203 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+public class BatchDeserializationTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void readAllDocumentsInTheirOriginalOrder() {
+        // given
+        List<String> documents = IntStream.range(0, 1000).mapToObj(BatchDeserializationTest::message).toList();
+
+        // when
+        List<Message> messages = new XjxSerdes().readAll(documents, Message.class, executor);
+
+        // then
+        assertThat(messages).extracting(Message::sequence).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+        assertThat(messages.get(42)).isEqualTo(new Message(42, "body-42"));
+    }
+
+    @Test
+    void readAllOnTheCommonPool() {
+        // given
+        List<String> documents = List.of(message(1), message(2), message(3));
+
+        // when
+        List<Message> messages = new XjxSerdes().readAll(documents, Message.class);
+
+        // then
+        assertThat(messages).containsExactly(new Message(1, "body-1"), new Message(2, "body-2"), new Message(3, "body-3"));
+    }
+
+    @Test
+    void readAllUtf8EncodedDocuments() {
+        // given
+        List<byte[]> documents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            documents.add(message(i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        List<Message> messages = new XjxSerdes().readAllBytes(documents, Message.class, executor);
+
+        // then
+        assertThat(messages).hasSize(100);
+        assertThat(messages.get(99)).isEqualTo(new Message(99, "body-99"));
+    }
+
+    @Test
+    void readAllUtf8EncodedDocumentsOnTheCommonPool() {
+        // given
+        List<byte[]> documents = List.of(message(1).getBytes(StandardCharsets.UTF_8), message(2).getBytes(StandardCharsets.UTF_8));
+
+        // when
+        List<Message> messages = new XjxSerdes().readAllBytes(documents, Message.class);
+
+        // then
+        assertThat(messages).containsExactly(new Message(1, "body-1"), new Message(2, "body-2"));
+    }
+
+    @Test
+    void streamAllUtf8EncodedDocumentsOnTheCommonPool() {
+        // given
+        List<byte[]> documents = IntStream.range(0, 50).mapToObj(i -> message(i).getBytes(StandardCharsets.UTF_8)).toList();
+
+        // when
+        var sequences = new XjxSerdes().streamAllBytes(documents, Message.class)
+                .map(Message::sequence)
+                .toList();
+
+        // then
+        assertThat(sequences).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    void streamAllDocumentsInTheirOriginalOrder() {
+        // given
+        List<String> documents = IntStream.range(0, 100).mapToObj(BatchDeserializationTest::message).toList();
+
+        // when
+        var sequences = new XjxSerdes().streamAll(documents, Message.class, executor)
+                .map(Message::sequence)
+                .toList();
+
+        // then
+        assertThat(sequences).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void returnNothingForNoDocuments() {
+        // when
+        List<Message> messages = new XjxSerdes().readAll(List.of(), Message.class, executor);
+
+        // then
+        assertThat(messages).isEmpty();
+    }
+
+    @Test
+    void rethrowTheFailureOfADocument() {
+        // given
+        List<String> documents = List.of(message(1), "<Message><Sequence>not a number</Sequence></Message>");
+
+        // when / then
+        assertThatThrownBy(() -> new XjxSerdes().readAll(documents, Message.class, executor))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void cancelTheOutstandingBatches_onTheFirstFailure() {
+        // given
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<String> documents = new ArrayList<>();
+        documents.add("<Counted><Sequence>not a number</Sequence></Counted>");
+        for (int i = 0; i < 1000; i++) {
+            documents.add("<Counted><Sequence>%d</Sequence><Body>body</Body></Counted>".formatted(i));
+        }
+        var counted = new XjxSerdes().streamAll(documents, Counted.class, tasks::add);
+
+        // when
+        int batches = tasks.size();
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+
+        // then
+        assertThat(batches).isGreaterThan(1);
+        assertThat(CountingDeserializer.COUNT).hasValue(0);
+        assertThatThrownBy(counted::toList).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void cancelTheSubmittedBatches_whenTheExecutorRejectsABatch() {
+        // given
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor boundedExecutor = task -> {
+            if (tasks.size() == 2) {
+                throw new RejectedExecutionException("queue is full");
+            }
+            tasks.add(task);
+        };
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add("<Counted><Sequence>%d</Sequence><Body>body</Body></Counted>".formatted(i));
+        }
+
+        // when
+        assertThatThrownBy(() -> new XjxSerdes().streamAll(documents, Counted.class, boundedExecutor))
+                .isInstanceOf(RejectedExecutionException.class);
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+
+        // then
+        assertThat(CountingDeserializer.COUNT).hasValue(0);
+    }
+
+    private static String message(int sequence) {
+        return "<Message><Sequence>%d</Sequence><Body>body-%d</Body></Message>".formatted(sequence, sequence);
+    }
+
+    record Message(@Tag(path = "/Message/Sequence") int sequence, @Tag(path = "/Message/Body") String body) {
+    }
+
+    record Counted(@Tag(path = "/Counted/Sequence") int sequence,
+                   @Tag(path = "/Counted/Body") @ValueDeserialization(CountingDeserializer.class) String body) {
+    }
+
+    public static class CountingDeserializer implements ValueDeserializer<String> {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public String deserializer(String value) {
+            COUNT.incrementAndGet();
+            return value;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.jonasg.xjx.serdes.deserialize;
 
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -181,4 +184,84 @@ public class CustomValueDeserializationTest {
         }
     }
 
+
+    @Test
+    void useCustomValueDeserializerOnPrimitiveTypes() {
+        // given
+        String data = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Reading>
+                    <Value>0x1F</Value>
+                </Reading>
+                """;
+
+        // when
+        Reading reading = new XjxSerdes().read(data, Reading.class);
+
+        // then
+        Assertions.assertThat(reading.value).isEqualTo(31);
+    }
+
+    static class Reading {
+        @Tag(path = "/Reading/Value")
+        @ValueDeserialization(HexDeserialize.class)
+        int value;
+    }
+
+    static class HexDeserialize implements ValueDeserializer<Integer> {
+
+        public HexDeserialize() {
+        }
+
+        @Override
+        public Integer deserializer(String value) {
+            return Integer.parseInt(value.substring(2), 16);
+        }
+    }
+
+    @Test
+    void createCustomValueDeserializerOnlyOnce() {
+        // given
+        String data = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Prices>
+                    <Low>EUR 1.50</Low>
+                    <High>EUR 2.75</High>
+                </Prices>
+                """;
+        var xjx = new XjxSerdes();
+
+        // when
+        Prices first = xjx.read(data, Prices.class);
+        Prices second = xjx.read(data, Prices.class);
+
+        // then
+        Assertions.assertThat(first.low).isEqualTo(150);
+        Assertions.assertThat(second.high).isEqualTo(275);
+        Assertions.assertThat(CentsDeserialize.INSTANCES.get()).isEqualTo(1);
+    }
+
+    static class Prices {
+        @Tag(path = "/Prices/Low")
+        @ValueDeserialization(CentsDeserialize.class)
+        Long low;
+
+        @Tag(path = "/Prices/High")
+        @ValueDeserialization(CentsDeserialize.class)
+        Long high;
+    }
+
+    static class CentsDeserialize implements ValueDeserializer<Long> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CentsDeserialize() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Long deserializer(String value) {
+            return new BigDecimal(value.substring(4)).movePointRight(2).longValueExact();
+        }
+    }
 }
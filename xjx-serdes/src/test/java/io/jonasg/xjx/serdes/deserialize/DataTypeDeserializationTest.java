@@ -55,6 +55,39 @@ public class DataTypeDeserializationTest {
 		assertThat(dataTypes.Integer).isEqualTo(11);
 	}
 
+	@Test
+	void deserialize_everyDataTypeOfADocument_fromTheReusedTextOfItsElements() {
+		// given
+		String data = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <DataTypes>
+                    <String>first</String>
+                    <primitiveInt>11</primitiveInt>
+                    <Integer>12</Integer>
+                    <primitiveLong>1234567890123</primitiveLong>
+                    <BigDecimal>3.14</BigDecimal>
+                    <primitiveDouble>7.7</primitiveDouble>
+                    <primitiveChar>c</primitiveChar>
+                    <LocalDate>2024-01-31</LocalDate>
+                    <booleanTrue>yes</booleanTrue>
+                </DataTypes>
+                """;
+
+		// when
+		DataTypes dataTypes = new XjxSerdes().read(data, DataTypes.class);
+
+		// then
+		assertThat(dataTypes.String).isEqualTo("first");
+		assertThat(dataTypes.primitiveInt).isEqualTo(11);
+		assertThat(dataTypes.Integer).isEqualTo(12);
+		assertThat(dataTypes.primitiveLong).isEqualTo(1234567890123L);
+		assertThat(dataTypes.BigDecimal).isEqualTo(new BigDecimal("3.14"));
+		assertThat(dataTypes.primitiveDouble).isEqualTo(7.7D);
+		assertThat(dataTypes.primitiveChar).isEqualTo('c');
+		assertThat(dataTypes.LocalDate).isEqualTo(LocalDate.of(2024, 1, 31));
+		assertThat(dataTypes.booleanTrue).isTrue();
+	}
+
 	@Test
 	void deserialize_primitiveIntField() {
 		// given
@@ -76,6 +76,24 @@ public class DeserializationFieldAccessTest {
         Assertions.assertThat(animal.nameSetThroughSetter).isTrue();
     }
 
+    @Test
+    void accessThroughSetter_mappingTheValueToTheFieldType() {
+        // given
+        String data = """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <Animal>
+                        <legs>4</legs>
+                    </Animal>
+                    """;
+
+        // when
+        AnimalWithPrimitiveSetter animal = new XjxSerdes().read(data, AnimalWithPrimitiveSetter.class);
+
+        // then
+        Assertions.assertThat(animal.legs).isEqualTo(4);
+        Assertions.assertThat(animal.legsSetThroughSetter).isTrue();
+    }
+
     public static class AnimalWithPublicFields {
         public AnimalWithPublicFields() {
         }
@@ -145,4 +163,17 @@ public class DeserializationFieldAccessTest {
             this.name = name;
         }
     }
+
+    public static class AnimalWithPrimitiveSetter {
+
+        public boolean legsSetThroughSetter;
+
+        @Tag(path = "/Animal/legs")
+        private int legs;
+
+        public void setLegs(int legs) {
+            this.legsSetThroughSetter = true;
+            this.legs = legs;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+public class EarlyTerminationTest {
+
+    private static final String DOCUMENT = """
+            <Document>
+                <Header id="42">
+                    <Title>Report</Title>
+                    <Author><Name>Jane</Name></Author>
+                </Header>
+                <Lines><Line>1</Line><Line>2</Line></Lines>
+                <Broken attr="unterminated
+            """;
+
+    @Test
+    void stopParsing_onceEveryMappedValueHasBeenRead() {
+        // given
+        var xjx = new XjxSerdes(c -> c.stopParsingWhenComplete(true));
+
+        // when
+        var header = xjx.read(DOCUMENT, Header.class);
+
+        // then
+        assertThat(header.id).isEqualTo("42");
+        assertThat(header.title).isEqualTo("Report");
+        assertThat(header.author).isEqualTo(new Author("Jane"));
+    }
+
+    @Test
+    void readUpToTheEndOfTheDocument_whenNotConfigured() {
+        // given
+        var xjx = new XjxSerdes();
+
+        // when / then
+        assertThatThrownBy(() -> xjx.read(DOCUMENT, Header.class));
+    }
+
+    @Test
+    void readUpToTheEndOfTheDocument_whenTypeContainsCollections() {
+        // given
+        var xjx = new XjxSerdes(c -> c.stopParsingWhenComplete(true));
+        String data = """
+                <Document>
+                    <Header><Title>Report</Title></Header>
+                    <Lines><Line>1</Line><Line>2</Line></Lines>
+                </Document>
+                """;
+
+        // when
+        var report = xjx.read(data, Report.class);
+
+        // then
+        assertThat(report.title).isEqualTo("Report");
+        assertThat(report.lines).containsExactly(1L, 2L);
+    }
+
+    static class Header {
+        @Tag(path = "/Document/Header", attribute = "id")
+        String id;
+
+        @Tag(path = "/Document/Header/Title")
+        String title;
+
+        @Tag(path = "/Document/Header/Author")
+        Author author;
+    }
+
+    record Author(@Tag(path = "Name") String name) {
+    }
+
+    static class Report {
+        @Tag(path = "/Document/Header/Title")
+        String title;
+
+        @Tag(path = "/Document/Lines", items = "Line")
+        List<Long> lines;
+    }
+}
@@ -3,8 +3,18 @@ package io.jonasg.xjx.serdes.deserialize;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.jonasg.xjx.serdes.Tag;
 import io.jonasg.xjx.serdes.XjxSerdes;
@@ -266,4 +276,149 @@ public class GeneralDeserializationTest {
 		@Tag(path = "/Tables/TableB")
 		String tableB;
 	}
+
+	@Test
+	void readUtf8EncodedBytes() {
+		// given
+		byte[] data = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<Tables>
+					<TableA>5.7</TableA>
+					<TableB>Tafel één € 📚</TableB>
+				</Tables>
+				""".getBytes(StandardCharsets.UTF_8);
+		var direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+
+		// when
+		var fromBytes = new XjxSerdes().read(data, NamespaceHolder.class);
+		var fromStream = new XjxSerdes().read(new ByteArrayInputStream(data), NamespaceHolder.class);
+		var fromBuffer = new XjxSerdes().read(direct, NamespaceHolder.class);
+
+		// then
+		assertThat(fromBytes.tableA).isEqualTo(5.7D);
+		assertThat(fromBytes.tableB).isEqualTo("Tafel één € 📚");
+		assertThat(fromStream.tableB).isEqualTo(fromBytes.tableB);
+		assertThat(fromBuffer.tableB).isEqualTo(fromBytes.tableB);
+	}
+
+	@Test
+	void readMemoryMappedFile(@TempDir Path directory) throws IOException {
+		// given
+		Path file = Files.writeString(directory.resolve("tables.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<Tables>
+					<TableA>5.7</TableA>
+					<TableB>Tafel één</TableB>
+				</Tables>
+				""");
+
+		// when
+		var holder = new XjxSerdes().read(file, NamespaceHolder.class);
+
+		// then
+		assertThat(holder.tableA).isEqualTo(5.7D);
+		assertThat(holder.tableB).isEqualTo("Tafel één");
+	}
+
+	@Test
+	void failWithAnUncheckedIOException_whenTheFileCanNotBeRead(@TempDir Path directory) {
+		// given
+		Path file = directory.resolve("does-not-exist.xml");
+
+		// when
+		ThrowableAssert.ThrowingCallable read = () -> new XjxSerdes().read(file, NamespaceHolder.class);
+
+		// then
+		assertThatThrownBy(read)
+				.isInstanceOf(UncheckedIOException.class)
+				.hasMessageContaining("does-not-exist.xml");
+	}
+
+	@Test
+	void readsOfTheSameType_doNotShareState() {
+		// given
+		var xjx = new XjxSerdes();
+		String first = """
+				<Week><Day>Monday</Day><Day>Tuesday</Day><Name>first</Name></Week>
+				""";
+		String second = """
+				<Week><Day>Friday</Day></Week>
+				""";
+
+		// when
+		var firstWeek = xjx.read(first, WeekHolder.class);
+		var secondWeek = xjx.read(second, WeekHolder.class);
+
+		// then
+		assertThat(secondWeek).isNotSameAs(firstWeek);
+		assertThat(firstWeek.days).containsExactly("Monday", "Tuesday");
+		assertThat(firstWeek.name).isEqualTo("first");
+		assertThat(secondWeek.days).containsExactly("Friday");
+		assertThat(secondWeek.name).isNull();
+	}
+
+	static class WeekHolder {
+		@Tag(path = "/Week", items = "Day")
+		List<String> days;
+
+		@Tag(path = "/Week/Name")
+		String name;
+	}
+
+	@Test
+	void mapDeeplyNestedPaths_nextToUnmappedSubtreesOfTheSameDepth() {
+		// given
+		String open = "<L1><L2><L3><L4><L5><L6><L7><L8><L9><L10><L11><L12><L13><L14><L15>";
+		String close = "</L15></L14></L13></L12></L11></L10></L9></L8></L7></L6></L5></L4></L3></L2></L1>";
+		String data = "<Deep>" + open.replace("<L", "<X") + "ignored" + close.replace("</L", "</X")
+				+ open + "<Value id=\"7\">found</Value>" + close + "</Deep>";
+
+		// when
+		var holder = new XjxSerdes().read(data, DeepHolder.class);
+
+		// then
+		assertThat(holder.value).isEqualTo("found");
+		assertThat(holder.id).isEqualTo("7");
+	}
+
+	static class DeepHolder {
+		@Tag(path = "/Deep/L1/L2/L3/L4/L5/L6/L7/L8/L9/L10/L11/L12/L13/L14/L15/Value")
+		String value;
+
+		@Tag(path = "/Deep/L1/L2/L3/L4/L5/L6/L7/L8/L9/L10/L11/L12/L13/L14/L15/Value", attribute = "id")
+		String id;
+	}
+
+	@Test
+	void skipUnmappedSections() {
+		// given
+		String data = """
+				<Envelope>
+					<Header>
+						<Signature Algorithm="a>b">
+							<Value>abc</Value>
+							<![CDATA[</Header><Body><Id>wrong</Id></Body>]]>
+							<!-- <Body><Id>wrong</Id></Body> -->
+						</Signature>
+						<Id>header</Id>
+					</Header>
+					<Body><Attachment>YmFzZTY0</Attachment><Id>body</Id></Body>
+				</Envelope>
+				""";
+
+		// when
+		var envelope = new XjxSerdes().read(data, EnvelopeHolder.class);
+
+		// then
+		assertThat(envelope.headerId).isEqualTo("header");
+		assertThat(envelope.bodyId).isEqualTo("body");
+	}
+
+	static class EnvelopeHolder {
+		@Tag(path = "/Envelope/Header/Id")
+		String headerId;
+
+		@Tag(path = "/Envelope/Body/Id")
+		String bodyId;
+	}
 }
@@ -160,6 +160,43 @@ public class JavaRecordDeserializationTest {
 		assertThat(person.lastName()).isNull();
 	}
 
+	@Test
+	void setPrimitiveComponentsToTheirDefaultValueWhenNoMappingIsFound() {
+		// given
+		record Counters(@Tag(path = "/Counters/name") String name, int count, long total, float ratio, short level, byte flag) {}
+		String data = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<Counters>
+					<name>requests</name>
+				</Counters>
+				""";
+
+		// when
+		Counters counters = new XjxSerdes().read(data, Counters.class);
+
+		// then
+		assertThat(counters).isEqualTo(new Counters("requests", 0, 0L, 0f, (short) 0, (byte) 0));
+	}
+
+	@Test
+	void readRecordsInALargeList() {
+		// given
+		record Entry(@Tag(path = "Id") int id, @Tag(path = "Name") String name) {}
+		record Entries(@Tag(path = "/Entries", items = "Entry") List<Entry> entries) {}
+		var data = new StringBuilder("<Entries>");
+		for (int i = 0; i < 1000; i++) {
+			data.append("<Entry><Id>").append(i).append("</Id><Name>entry-").append(i).append("</Name></Entry>");
+		}
+		data.append("</Entries>");
+
+		// when
+		Entries entries = new XjxSerdes().read(data.toString(), Entries.class);
+
+		// then
+		assertThat(entries.entries()).hasSize(1000);
+		assertThat(entries.entries().get(999)).isEqualTo(new Entry(999, "entry-999"));
+	}
+
 	record Person(@Tag(path = "name") String name, String lastName) {}
 
 	static class House {
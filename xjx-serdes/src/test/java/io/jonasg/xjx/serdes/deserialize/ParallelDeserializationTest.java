@@ -0,0 +1,122 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+public class ParallelDeserializationTest {
+
+    private static final int ITEMS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readEveryElementOfAFileInDocumentOrder() throws IOException {
+        // given
+        var file = Files.writeString(directory.resolve("feed.xml"), feed(ITEMS));
+
+        // when
+        List<Item> items = new XjxSerdes().readParallel(file, "/Feed/Items/Item", Item.class);
+
+        // then
+        assertThat(items).extracting(Item::id).containsExactlyElementsOf(IntStream.range(0, ITEMS).boxed().toList());
+        assertThat(items.get(42)).isEqualTo(new Item(42, "name-42 €"));
+    }
+
+    @Test
+    void readTheSameElementsAsTheSequentialStream() throws IOException {
+        // given
+        String data = feed(100);
+        var file = Files.writeString(directory.resolve("feed.xml"), data);
+
+        // when
+        List<Item> items = new XjxSerdes().readParallel(file, "/Feed/Items/Item", Item.class);
+
+        // then
+        assertThat(items).isEqualTo(new XjxSerdes().readStream(new StringReader(data), "/Feed/Items/Item", Item.class).toList());
+    }
+
+    @Test
+    void streamEveryElementOfABufferInDocumentOrder() {
+        // given
+        var data = ByteBuffer.wrap(feed(ITEMS).getBytes(StandardCharsets.UTF_8));
+
+        // when
+        List<Integer> ids = new XjxSerdes().streamParallel(data, "/Feed/Items/Item", Item.class)
+                .map(Item::id)
+                .toList();
+
+        // then
+        assertThat(ids).containsExactlyElementsOf(IntStream.range(0, ITEMS).boxed().toList());
+    }
+
+    @Test
+    void deserializeOnThePoolRunningTheTerminalOperation() throws Exception {
+        // given
+        var data = ByteBuffer.wrap(feed(ITEMS).getBytes(StandardCharsets.UTF_8));
+        var pool = new ForkJoinPool(3);
+
+        // when
+        List<Item> items;
+        try {
+            items = pool.submit(() -> new XjxSerdes().readParallel(data, "/Feed/Items/Item", Item.class)).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        assertThat(items).hasSize(ITEMS);
+        assertThat(items.get(ITEMS - 1)).isEqualTo(new Item(ITEMS - 1, "name-" + (ITEMS - 1) + " €"));
+    }
+
+    @Test
+    void returnNothing_whenNoElementMatchesTheItemPath() {
+        // given
+        var data = ByteBuffer.wrap("<Feed><Items><Other/></Items></Feed>".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        List<Item> items = new XjxSerdes().readParallel(data, "/Feed/Items/Item", Item.class);
+
+        // then
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void rethrowTheFailureOfAnElement() {
+        // given
+        var data = ByteBuffer.wrap("""
+                <Feed><Items><Item><Id>1</Id></Item><Item><Id>two</Id></Item></Items></Feed>
+                """.getBytes(StandardCharsets.UTF_8));
+
+        // when / then
+        assertThatThrownBy(() -> new XjxSerdes().readParallel(data, "/Feed/Items/Item", Item.class))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    private static String feed(int items) {
+        var feed = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Feed><Header><Item><Id>-1</Id></Item></Header><Items>\n");
+        for (int i = 0; i < items; i++) {
+            feed.append("<Item><Id>").append(i).append("</Id><Name>name-").append(i).append(" €</Name></Item>\n");
+        }
+        return feed.append("</Items></Feed>\n").toString();
+    }
+
+    record Item(@Tag(path = "/Item/Id") int id, @Tag(path = "/Item/Name") String name) {
+    }
+}
@@ -0,0 +1,67 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+import io.jonasg.xjx.serdes.deserialize.config.XjxConfiguration;
+
+public class PathWriterIndexFactoryTest {
+
+    private final PathWriterIndexFactory factory = new PathWriterIndexFactory(new XjxConfiguration());
+
+    @Test
+    void cacheAnIndexPerDeclaredRootTag() {
+        // when
+        PathWriterIndex first = factory.createIndexForType(Order.class, "Order");
+        PathWriterIndex second = factory.createIndexForType(Order.class, "Order");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.hasRoot("Order")).isTrue();
+    }
+
+    @Test
+    void shareASingleIndexBetweenUndeclaredRootTags() {
+        // given
+        PathWriterIndex declared = factory.createIndexForType(Order.class, "Order");
+
+        // when
+        PathWriterIndex first = factory.createIndexForType(Order.class, "Unknown1");
+        PathWriterIndex second = factory.createIndexForType(Order.class, "Unknown2");
+
+        // then
+        assertThat(first).isSameAs(second).isNotSameAs(declared);
+        assertThat(first.hasRoot("Unknown1")).isFalse();
+    }
+
+    @Test
+    void readRelativePaths_fromAnyRootTag() {
+        // given
+        String document = """
+                <Anything>
+                    <Id>42</Id>
+                </Anything>
+                """;
+
+        // when
+        Line line = new XjxSerdes().read(document, Line.class);
+
+        // then
+        assertThat(line.id).isEqualTo("42");
+    }
+
+    static class Order {
+
+        @Tag(path = "/Order/Id")
+        String id;
+    }
+
+    static class Line {
+
+        @Tag(path = "Id")
+        String id;
+    }
+}
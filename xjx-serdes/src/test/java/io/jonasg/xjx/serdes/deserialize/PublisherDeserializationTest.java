@@ -0,0 +1,337 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+public class PublisherDeserializationTest {
+
+    private static final String ORDERS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Shop>
+                <Orders>
+                    <Order><Id>1</Id><Customer>Zoë</Customer></Order>
+                    <Order><Id>2</Id><Customer>Müller €</Customer></Order>
+                    <Order><Id>3</Id><Customer>📚 Bücherwurm</Customer></Order>
+                    <Order><Id>4</Id><Customer><![CDATA[A&B <Ltd>]]></Customer></Order>
+                    <Order><Id>5</Id><Customer>Ørsted</Customer></Order>
+                    <Order><Id>6</Id><Customer>大阪</Customer></Order>
+                </Orders>
+            </Shop>
+            """;
+
+    private static final List<Order> ALL_ORDERS = List.of(
+            new Order(1, "Zoë"),
+            new Order(2, "Müller €"),
+            new Order(3, "📚 Bücherwurm"),
+            new Order(4, "A&B <Ltd>"),
+            new Order(5, "Ørsted"),
+            new Order(6, "大阪"));
+
+    @Test
+    void publishEveryElementAsTheDataArrives() throws Exception {
+        // given
+        var data = new ChunkPublisher(chunks(ORDERS, 7), null);
+        var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+        // when
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // then
+        subscriber.done.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.items).containsExactlyElementsOf(ALL_ORDERS);
+        assertThat(data.maxOutstanding.get()).isEqualTo(1);
+    }
+
+    @Test
+    void publishTheSameItems_whereverTheChunksSplitTagsAndCharacters() {
+        int length = ORDERS.getBytes(StandardCharsets.UTF_8).length;
+        for (int size = 1; size <= length; size++) {
+            // given
+            var data = new ChunkPublisher(chunks(ORDERS, size), null);
+            var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+            // when
+            new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+            // then
+            assertThat(subscriber.done).as("chunks of %d bytes", size).isCompleted();
+            assertThat(subscriber.items).as("chunks of %d bytes", size).containsExactlyElementsOf(ALL_ORDERS);
+        }
+    }
+
+    @Test
+    void publishOnTheThreadDeliveringTheData() {
+        // given
+        var data = new ChunkPublisher(chunks(ORDERS, 7), null);
+        var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+        // when
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.done).isCompleted();
+        assertThat(subscriber.items).hasSize(6);
+        assertThat(subscriber.threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void skipTheElementsOfAnItemThatAreNotMapped() throws Exception {
+        // given
+        var document = """
+                <Shop>
+                    <Orders>
+                        <Order><Note><Id>42</Id><Empty/></Note><Id>1</Id><Empty/></Order>
+                        <Order/>
+                    </Orders>
+                </Shop>
+                """;
+        var data = new ChunkPublisher(chunks(document, 3), null);
+        var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+        // when
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // then
+        subscriber.done.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.items).containsExactly(new Order(1, null), new Order(0, null));
+    }
+
+    @Test
+    void onlyReadAsFarAsTheSubscriberRequests() throws Exception {
+        // given
+        var data = new ChunkPublisher(chunks(ORDERS, 16), null);
+        var subscriber = new CollectingSubscriber<Order>(0);
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // when
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(2);
+        Thread.sleep(100);
+
+        // then
+        assertThat(subscriber.items).containsExactlyElementsOf(ALL_ORDERS.subList(0, 2));
+        assertThat(subscriber.done).isNotDone();
+        assertThat(data.requested.get()).isLessThan(data.chunks.size());
+
+        // when
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // then
+        subscriber.done.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.items).containsExactlyElementsOf(ALL_ORDERS);
+    }
+
+    @Test
+    void signalTheFailureOfTheDataPublisher() {
+        // given
+        var failure = new IllegalStateException("connection reset");
+        var document = """
+                <Shop>
+                    <Orders>
+                        <Order><Id>1</Id></Order>
+                        <Order><Id>""";
+        var data = new ChunkPublisher(chunks(document, 10), failure);
+        var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+        // when
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.done).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .havingCause()
+                .isSameAs(failure);
+        assertThat(subscriber.items).containsExactly(new Order(1, null));
+    }
+
+    @Test
+    void signalDeserializationFailures() {
+        // given
+        var document = """
+                <Shop>
+                    <Orders>
+                        <Order><Id>one</Id></Order>
+                    </Orders>
+                </Shop>
+                """;
+        var data = new ChunkPublisher(chunks(document, 10), null);
+        var subscriber = new CollectingSubscriber<Order>(Long.MAX_VALUE);
+
+        // when
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.done).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .havingCause()
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void signalAnError_whenRequestingNoItems() {
+        // given
+        var data = new ChunkPublisher(chunks(ORDERS, 10), null);
+        var subscriber = new CollectingSubscriber<Order>(0);
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+
+        // when
+        subscriber.subscription.request(0);
+
+        // then
+        assertThat(subscriber.done).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .havingCause()
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cancelTheDataSubscription_whenTheSubscriptionIsCancelled() throws Exception {
+        // given
+        var data = new ChunkPublisher(chunks(ORDERS, 16), null);
+        var subscriber = new CollectingSubscriber<Order>(0);
+        new XjxSerdes().publish(data, "/Shop/Orders/Order", Order.class).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.awaitItems(1);
+
+        // when
+        subscriber.subscription.cancel();
+
+        // then
+        assertThat(data.cancelled.get()).isTrue();
+        Thread.sleep(100);
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.done).isNotDone();
+    }
+
+    private static List<ByteBuffer> chunks(String document, int size) {
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        var chunks = new ArrayList<ByteBuffer>();
+        for (int i = 0; i < bytes.length; i += size) {
+            chunks.add(ByteBuffer.wrap(Arrays.copyOfRange(bytes, i, Math.min(i + size, bytes.length))));
+        }
+        return chunks;
+    }
+
+    record Order(@Tag(path = "/Order/Id") int id, @Tag(path = "/Order/Customer") String customer) {
+    }
+
+    /**
+     * Publishes its chunks on the thread requesting them, keeping track of the demand.
+     */
+    private static class ChunkPublisher implements Flow.Publisher<ByteBuffer> {
+
+        private final List<ByteBuffer> chunks;
+
+        private final Throwable failure;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicLong maxOutstanding = new AtomicLong();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        ChunkPublisher(List<ByteBuffer> chunks, Throwable failure) {
+            this.chunks = chunks;
+            this.failure = failure;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+
+                private long outstanding;
+
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    outstanding += n;
+                    maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                    for (; outstanding > 0 && !cancelled.get(); outstanding--) {
+                        if (next < chunks.size()) {
+                            subscriber.onNext(chunks.get(next++));
+                        } else {
+                            cancelled.set(true);
+                            if (failure != null) {
+                                subscriber.onError(failure);
+                            } else {
+                                subscriber.onComplete();
+                            }
+                        }
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+
+    private static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private volatile Flow.Subscription subscription;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            threads.add(Thread.currentThread());
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        void awaitItems(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (items.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.jonasg.xjx.serdes.deserialize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.jonasg.xjx.serdes.Tag;
+import io.jonasg.xjx.serdes.XjxSerdes;
+
+public class StreamDeserializationTest {
+
+    @Test
+    void deserializeEveryElementAtTheItemPath() {
+        // given
+        String data = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Feed>
+                    <Header><Item><Name>not an item</Name></Item></Header>
+                    <Items>
+                        <Item id="1"><Name>first</Name><Tags><Tag>a</Tag><Tag>b</Tag></Tags></Item>
+                        <!-- comment -->
+                        <Item id="2"><Name>second</Name></Item>
+                        <Other/>
+                        <Item id="3"/>
+                    </Items>
+                </Feed>
+                """;
+
+        // when
+        var items = new XjxSerdes().readStream(new StringReader(data), "/Feed/Items/Item", Item.class).toList();
+
+        // then
+        assertThat(items).extracting(item -> item.id).containsExactly("1", "2", "3");
+        assertThat(items).extracting(item -> item.name).containsExactly("first", "second", null);
+        assertThat(items.get(0).tags).containsExactly("a", "b");
+    }
+
+    @Test
+    void deserializeElementsIntoRecords() {
+        // given
+        String data = """
+                <Feed><Entry><Value>5</Value></Entry><Entry><Value>7</Value></Entry></Feed>
+                """;
+
+        // when
+        var entries = new XjxSerdes().readStream(new StringReader(data), "/Feed/Entry", Entry.class).toList();
+
+        // then
+        assertThat(entries).containsExactly(new Entry(5L), new Entry(7L));
+    }
+
+    @Test
+    void returnEmptyStream_whenNoElementMatchesTheItemPath() {
+        // given
+        String data = """
+                <Feed><Items><Other/></Items></Feed>
+                """;
+
+        // when
+        var items = new XjxSerdes().readStream(new StringReader(data), "/Feed/Items/Item", Item.class).toList();
+
+        // then
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void readOnlyAsFarAsTheStreamIsConsumed() {
+        // given
+        String data = """
+                <Feed><Entry><Value>5</Value></Entry><Entry><Value>7</Value></Entry><Entry><Value>9</Value>
+                """;
+
+        // when
+        var entries = new XjxSerdes().readStream(new StringReader(data), "/Feed/Entry", Entry.class).limit(2).toList();
+
+        // then
+        assertThat(entries).containsExactly(new Entry(5L), new Entry(7L));
+    }
+
+    @Test
+    void failWhenDocumentEndsWithinAnItem() {
+        // given
+        String data = """
+                <Feed><Entry><Value>5</Value>
+                """;
+        var entries = new XjxSerdes().readStream(new StringReader(data), "/Feed/Entry", Entry.class);
+
+        // when / then
+        assertThatThrownBy(entries::toList)
+                .isInstanceOf(XjxDeserializationException.class)
+                .hasMessage("Document ended before Entry was closed");
+    }
+
+    static class Item {
+        @Tag(path = "/Item", attribute = "id")
+        String id;
+
+        @Tag(path = "/Item/Name")
+        String name;
+
+        @Tag(path = "/Item/Tags", items = "Tag")
+        List<String> tags;
+    }
+
+    record Entry(@Tag(path = "/Entry/Value") Long value) {
+    }
+}